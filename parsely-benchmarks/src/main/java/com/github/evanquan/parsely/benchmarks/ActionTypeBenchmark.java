@@ -0,0 +1,73 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.ActionType;
+import com.github.evanquan.parsely.parser.ActionTypeRegistry;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.Requirement;
+import com.github.evanquan.parsely.parser.condition.Condition;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory.ObjectPhraseType;
+import com.github.evanquan.parsely.words.Action;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking actions against the requirements of their action type.
+ * The action type is created by an {@link ActionTypeRegistry} of its own, so
+ * it does not change the action types of other benchmarks.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionTypeBenchmark {
+
+    private ActionType actionType;
+    private Action validAction;
+    private Action invalidAction;
+
+    @Setup
+    public void setUp() {
+        Condition direct = ConditionFactory.getDirectObjectPhraseCondition(
+                ObjectPhraseType.DOES_NOT_EXIST);
+        Condition indirect = ConditionFactory.getIndirectObjectPhraseCondition(
+                ObjectPhraseType.EXISTS);
+        Condition noIndirect =
+                ConditionFactory.getIndirectObjectPhraseCondition(
+                        ObjectPhraseType.DOES_NOT_EXIST);
+        ArrayList<Condition> conditions = new ArrayList<>();
+        conditions.add(direct);
+        actionType = new ActionTypeRegistry().register("give",
+                Collections.emptySet(),
+                new Requirement(direct, new ArrayList<>(), direct),
+                new Requirement(indirect, conditions, noIndirect),
+                new Requirement(indirect, new ArrayList<>(), indirect));
+
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("give", "give");
+        ParserFactory.setActionTypes(actionTypes);
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        validAction = parser.parse("give the key to bob").getActions().get(0);
+        invalidAction = parser.parse("give").getActions().get(0);
+    }
+
+    @Benchmark
+    public ArrayList<Requirement> checkForValidity_valid() {
+        return actionType.checkForValidity(validAction);
+    }
+
+    @Benchmark
+    public ArrayList<Requirement> checkForValidity_invalid() {
+        return actionType.checkForValidity(invalidAction);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the benchmarks with the {@link GCProfiler}, so that every result
+ * includes how much is allocated per operation alongside how long it takes.
+ * Accepts the same arguments as the JMH command line, such as a regular
+ * expression of benchmarks to run:
+ * <pre>
+ * java -jar parsely-benchmarks/target/benchmarks.jar ParserBenchmark
+ * </pre>
+ * Unless thread counts are given, such as with {@code -p threads=1,2}, the
+ * {@link ParallelParseBenchmark} is run with 1, 2, 4 and so on threads, up
+ * to the number of processors of the machine it runs on.
+ *
+ * @author Evan Quan
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Cannot instantiate.
+     */
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException,
+            CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getParameter("threads").hasValue()) {
+            options.param("threads", getThreadCounts(
+                    Runtime.getRuntime().availableProcessors()));
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * @param processors number of processors
+     * @return powers of 2 less than the number of processors, followed by
+     * the number of processors.
+     */
+    static String[] getThreadCounts(int processors) {
+        List<String> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            threadCounts.add(Integer.toString(threads));
+        }
+        threadCounts.add(Integer.toString(processors));
+        return threadCounts.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import com.github.evanquan.parsely.words.VerbPhrase;
+import com.github.evanquan.parsely.words.Word;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The syntactical analysis of the {@link ParserType#VERB_GNOSTIC} parser as
+ * it was before it walked index ranges of the {@link TokenStream}, kept as a
+ * baseline for {@link SyntacticalAnalysisBenchmark}. Each action copies its
+ * tokens into a list, adverbs and verbs are consumed with
+ * {@link ArrayList#remove(int)}, and object phrases copy their tokens again
+ * for their owners and adjectives. It produces the same actions, before
+ * cleanup.
+ *
+ * @author Evan Quan
+ */
+final class CopyingSyntacticalAnalysis {
+
+    /**
+     * Verbs the parser knows, in lower case.
+     */
+    private final Set<String> verbs;
+
+    /**
+     * @param verbs the parser knows, in lower case
+     */
+    CopyingSyntacticalAnalysis(Set<String> verbs) {
+        this.verbs = verbs;
+    }
+
+    /**
+     * @param tokens to parse
+     * @return all non-empty actions of the tokens, in order.
+     */
+    ArrayList<Action> parseActions(TokenStream tokens) {
+        ArrayList<Action> actions = new ArrayList<>();
+        for (ArrayList<String> actionTokens : splitTokensByActions(tokens)) {
+            Action action = syntacticalAnalysis(actionTokens);
+            if (!action.isEmpty()) {
+                actions.add(action);
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * @param tokens to split
+     * @return list of token lists, where each token list corresponds to an
+     * action
+     */
+    private static ArrayList<ArrayList<String>> splitTokensByActions(
+            TokenStream tokens) {
+        ArrayList<Integer> separatorIndices = new ArrayList<>();
+        ArrayList<ArrayList<String>> actionTokens = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (Word.isActionSeparator(tokens.get(i))) {
+                separatorIndices.add(i);
+            }
+        }
+        int startIndex = 0;
+        int endIndex;
+        for (int i : separatorIndices) {
+            endIndex = i; // excludes separator token
+            actionTokens.add(getTokens(tokens, startIndex, endIndex));
+            startIndex = endIndex + 1; // skips over separator token
+        }
+        endIndex = tokens.size();
+        actionTokens.add(getTokens(tokens, startIndex, endIndex));
+        return actionTokens;
+    }
+
+    /**
+     * @param tokens to copy from
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
+     * @return copies of the tokens in the range
+     */
+    private static ArrayList<String> getTokens(TokenStream tokens, int start,
+                                               int end) {
+        ArrayList<String> range = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            range.add(tokens.getString(i));
+        }
+        return range;
+    }
+
+    /**
+     * @param tokens to parse for action, which are consumed
+     * @return action parsed from tokens
+     */
+    private Action syntacticalAnalysis(ArrayList<String> tokens) {
+        Action action = new Action();
+        if (tokens.isEmpty()) {
+            return action;
+        }
+
+        VerbPhrase verbPhrase = new VerbPhrase();
+        ArrayList<String> adverbs = new ArrayList<>();
+        while (!tokens.isEmpty() && Word.isAdverb(tokens.get(0))) {
+            adverbs.add(tokens.get(0));
+            tokens.remove(0);
+        }
+        verbPhrase.setAdverbs(adverbs);
+        if (tokens.isEmpty()) {
+            action.setVerbPhrase(verbPhrase);
+            return action;
+        }
+        // Verbs are matched ignoring case, as the parser does
+        if (verbs.contains(tokens.get(0).toLowerCase(Locale.ROOT))) {
+            verbPhrase.setVerb(tokens.get(0));
+            tokens.remove(0);
+        }
+        action.setVerbPhrase(verbPhrase);
+
+        ArrayList<String> directTokens = new ArrayList<>();
+        int i;
+        for (i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (Word.isObjectPhraseSeparatingPreposition(token)) {
+                action.setPreposition(token);
+                break;
+            } else {
+                directTokens.add(token);
+            }
+        }
+        ArrayList<String> indirectTokens = new ArrayList<>();
+        for (i++; i < tokens.size(); i++) {
+            indirectTokens.add(tokens.get(i));
+        }
+
+        action.setDirectObjectPhrase(getObjectPhrase(directTokens));
+        action.setIndirectObjectPhrase(getObjectPhrase(indirectTokens));
+        return action;
+    }
+
+    /**
+     * @param tokens to parse for an object phrase, which are consumed
+     * @return object phrase that is composed of all token components, or null
+     * if tokens is empty.
+     */
+    private static ObjectPhrase getObjectPhrase(ArrayList<String> tokens) {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        ObjectPhrase objectPhrase = new ObjectPhrase();
+        if (Word.isDeterminer(tokens.get(0))) {
+            objectPhrase.setDeterminer(tokens.remove(0));
+        }
+
+        ArrayList<String> thisTokens = new ArrayList<>();
+        int i;
+        for (i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (Word.isBelongingPreposition(token)) {
+                objectPhrase.setPreposition(token);
+                break;
+            } else {
+                thisTokens.add(token);
+            }
+        }
+
+        ArrayList<String> ownerTokens = new ArrayList<>();
+        for (i++; i < tokens.size(); i++) {
+            ownerTokens.add(tokens.get(i));
+        }
+        objectPhrase.setOwner(getObjectPhrase(ownerTokens));
+
+        if (!thisTokens.isEmpty()) {
+            objectPhrase.setNoun(thisTokens.remove(thisTokens.size() - 1));
+        }
+        ArrayList<String> adjectives = new ArrayList<>();
+        for (i = 0; i < thisTokens.size(); i++) {
+            adjectives.add(thisTokens.get(i));
+        }
+        objectPhrase.setAdjectives(adjectives);
+        return objectPhrase;
+    }
+}
@@ -0,0 +1,389 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.words.Command;
+import com.github.evanquan.parsely.words.Word;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Generates plausible player input for load tests and benchmarks, such as
+ * "quickly take the old key of the chest, then go north". Commands are built
+ * from the vocabularies of {@link Word} and the verbs of an action type map,
+ * as a verb gnostic parser would be configured with.
+ * <p>
+ * Generators are deterministic: generators with the same seed and settings
+ * generate the same commands, in the same order. How many actions,
+ * adjectives and owners commands have are set as weights, where the weight
+ * at index i is how likely a count of i is relative to the other counts.
+ * For example, adjective weights of {4, 2, 1} make half of all object
+ * phrases have no adjectives, and a seventh have two.
+ * <p>
+ * Generators are not thread safe, so each thread needs its own.
+ *
+ * @author Evan Quan
+ */
+public final class CorpusGenerator {
+
+    private static final String[] NOUNS = {"key", "door", "chest", "sword",
+            "lamp", "coin", "troll", "bob", "cake", "scroll", "north", "rope"};
+    private static final String[] ADJECTIVES = {"old", "red", "rusty",
+            "small", "heavy", "golden", "broken", "strange"};
+    private static final String[] SEPARATORS = {", then", " and", ".", ","};
+
+    private final SplittableRandom random;
+    private final String[] verbs;
+    private final String[] determiners;
+    private final String[] prepositions;
+    private final String[] belongingPrepositions;
+    private final String[] adverbs;
+
+    private int[] actionWeights = {0, 6, 3, 1};
+    private int[] adjectiveWeights = {6, 3, 1};
+    private int[] ownerWeights = {8, 2};
+    private double adverbRate = 0.1;
+    private double indirectRate = 0.3;
+    private double typoRate;
+    private double caseChangeRate;
+
+    /**
+     * @param seed        that determines which commands are generated
+     * @param actionTypes whose verbs commands start actions with, as given to
+     *                    a verb gnostic parser
+     * @throws IllegalArgumentException if there are no verbs
+     */
+    public CorpusGenerator(long seed, Map<String, String> actionTypes) {
+        if (actionTypes.isEmpty()) {
+            throw new IllegalArgumentException("There must be verbs");
+        }
+        this.random = new SplittableRandom(seed);
+        // Sorted so that the order of the sets does not change the commands
+        this.verbs = sorted(actionTypes.keySet());
+        TreeSet<String> determiners = new TreeSet<>(Word.getArticles());
+        determiners.addAll(Word.getQuantifiers());
+        this.determiners = determiners.toArray(new String[0]);
+        this.prepositions = sorted(Word.getObjectPhraseSeparatingPrepositions());
+        this.belongingPrepositions = sorted(Word.getBelongingPrepositions());
+        this.adverbs = sorted(Word.getKnownAdverbs());
+    }
+
+    /**
+     * Generate the number of lines of commands to a file and exit.
+     *
+     * @param args the file to write to, the number of commands and
+     *             optionally the seed, which defaults to 0
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CorpusGenerator <file> <count> [seed]");
+            System.exit(1);
+        }
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        new CorpusGenerator(seed, Inputs.getActionTypes())
+                .write(Paths.get(args[0]), Integer.parseInt(args[1]));
+    }
+
+    /**
+     * @param words to sort
+     * @return the words in order.
+     */
+    private static String[] sorted(Collection<String> words) {
+        return new TreeSet<>(words).toArray(new String[0]);
+    }
+
+    /**
+     * @param weights of each number of actions, starting from 0
+     * @return this generator
+     * @throws IllegalArgumentException if the weights are not valid
+     */
+    public CorpusGenerator setActionWeights(int... weights) {
+        this.actionWeights = checkWeights(weights);
+        return this;
+    }
+
+    /**
+     * @param weights of each number of adjectives of object phrases,
+     *                starting from 0
+     * @return this generator
+     * @throws IllegalArgumentException if the weights are not valid
+     */
+    public CorpusGenerator setAdjectiveWeights(int... weights) {
+        this.adjectiveWeights = checkWeights(weights);
+        return this;
+    }
+
+    /**
+     * @param weights of each number of owners of object phrases, starting
+     *                from 0
+     * @return this generator
+     * @throws IllegalArgumentException if the weights are not valid
+     */
+    public CorpusGenerator setOwnerWeights(int... weights) {
+        this.ownerWeights = checkWeights(weights);
+        return this;
+    }
+
+    /**
+     * @param rate of actions that start with an adverb, from 0 to 1
+     * @return this generator
+     * @throws IllegalArgumentException if rate is not from 0 to 1
+     */
+    public CorpusGenerator setAdverbRate(double rate) {
+        this.adverbRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * @param rate of actions with an indirect object phrase, from 0 to 1
+     * @return this generator
+     * @throws IllegalArgumentException if rate is not from 0 to 1
+     */
+    public CorpusGenerator setIndirectRate(double rate) {
+        this.indirectRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * A typo swaps, drops or repeats a letter of a word.
+     *
+     * @param rate of words with a typo, from 0 to 1
+     * @return this generator
+     * @throws IllegalArgumentException if rate is not from 0 to 1
+     */
+    public CorpusGenerator setTypoRate(double rate) {
+        this.typoRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * A word with a changed case is either capitalized or all upper case.
+     *
+     * @param rate of words with a changed case, from 0 to 1
+     * @return this generator
+     * @throws IllegalArgumentException if rate is not from 0 to 1
+     */
+    public CorpusGenerator setCaseChangeRate(double rate) {
+        this.caseChangeRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * @return the next command.
+     */
+    public String next() {
+        StringBuilder command = new StringBuilder();
+        int actions = pick(actionWeights);
+        for (int i = 0; i < actions; i++) {
+            if (i > 0) {
+                command.append(pick(SEPARATORS)).append(' ');
+            }
+            appendAction(command);
+        }
+        return command.toString();
+    }
+
+    /**
+     * @param count of commands to generate
+     * @return the next count commands.
+     */
+    public ArrayList<String> next(int count) {
+        ArrayList<String> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(next());
+        }
+        return commands;
+    }
+
+    /**
+     * Write the next commands to a file, one per line, in UTF-8. The file
+     * can then be parsed by a
+     * {@link com.github.evanquan.parsely.parser.CommandStream} or
+     * {@link com.github.evanquan.parsely.parser.CommandLogReplayer}.
+     *
+     * @param file  to write to, replacing it if it exists
+     * @param count of commands to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file,
+                StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(next());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Parse the next commands in batches with
+     * {@link Parser#parseAll(List)}, so that the whole corpus never needs to
+     * be held at once.
+     *
+     * @param parser    to parse commands with
+     * @param count     of commands to parse
+     * @param batchSize number of commands generated and parsed at a time
+     * @param consumer  to accept each parsed command, in order
+     * @throws IllegalArgumentException if batchSize is not positive
+     */
+    public void parse(Parser parser, int count, int batchSize,
+                      Consumer<Command> consumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Batch size must be positive: " + batchSize);
+        }
+        for (int parsed = 0; parsed < count; parsed += batchSize) {
+            parser.parseAll(next(Math.min(batchSize, count - parsed)))
+                    .forEach(consumer);
+        }
+    }
+
+    /**
+     * Verb phrase, direct object phrase and optionally a preposition and
+     * indirect object phrase.
+     *
+     * @param command to append an action to
+     */
+    private void appendAction(StringBuilder command) {
+        if (random.nextDouble() < adverbRate) {
+            appendWord(command, pick(adverbs)).append(' ');
+        }
+        appendWord(command, pick(verbs)).append(' ');
+        appendObjectPhrase(command);
+        if (random.nextDouble() < indirectRate) {
+            command.append(' ');
+            appendWord(command, pick(prepositions)).append(' ');
+            appendObjectPhrase(command);
+        }
+    }
+
+    /**
+     * @param command to append an object phrase and its owners to
+     */
+    private void appendObjectPhrase(StringBuilder command) {
+        int owners = pick(ownerWeights);
+        for (int i = 0; i <= owners; i++) {
+            if (i > 0) {
+                command.append(' ');
+                appendWord(command, pick(belongingPrepositions)).append(' ');
+            }
+            appendWord(command, pick(determiners)).append(' ');
+            int adjectives = pick(adjectiveWeights);
+            for (int j = 0; j < adjectives; j++) {
+                appendWord(command, pick(ADJECTIVES)).append(' ');
+            }
+            appendWord(command, pick(NOUNS));
+        }
+    }
+
+    /**
+     * @param command to append to
+     * @param word    to append, possibly with a typo or changed case
+     * @return command
+     */
+    private StringBuilder appendWord(StringBuilder command, String word) {
+        if (random.nextDouble() < typoRate) {
+            word = addTypo(word);
+        }
+        if (random.nextDouble() < caseChangeRate) {
+            word = random.nextBoolean() ? word.toUpperCase(Locale.ROOT)
+                    : Character.toUpperCase(word.charAt(0)) + word.substring(1);
+        }
+        return command.append(word);
+    }
+
+    /**
+     * @param word to add a typo to
+     * @return the word with two letters swapped, a letter dropped or a
+     * letter repeated.
+     */
+    private String addTypo(String word) {
+        if (word.length() < 2) {
+            return word + word;
+        }
+        int i = random.nextInt(word.length() - 1);
+        switch (random.nextInt(3)) {
+            case 0:
+                return word.substring(0, i) + word.charAt(i + 1)
+                        + word.charAt(i) + word.substring(i + 2);
+            case 1:
+                return word.substring(0, i) + word.substring(i + 1);
+            default:
+                return word.substring(0, i + 1) + word.substring(i);
+        }
+    }
+
+    /**
+     * @param words to pick from
+     * @return a random word.
+     */
+    private String pick(String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+    /**
+     * @param weights of each index
+     * @return a random index, weighted by weights.
+     */
+    private int pick(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; ; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * @param weights to check
+     * @return a copy of weights.
+     * @throws IllegalArgumentException if any weight is negative or all
+     *                                  weights are 0
+     */
+    private static int[] checkWeights(int[] weights) {
+        long total = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException(
+                        "Weights cannot be negative: " + weight);
+            }
+            total += weight;
+        }
+        if (total == 0 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Weights must add up to a positive int: " + total);
+        }
+        return weights.clone();
+    }
+
+    /**
+     * @param rate to check
+     * @return rate
+     * @throws IllegalArgumentException if rate is not from 0 to 1
+     */
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException(
+                    "Rate must be from 0 to 1: " + rate);
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import java.util.HashMap;
+
+/**
+ * Builds inputs of a given shape for benchmarks, so that benchmarks can be
+ * parameterized by how long inputs are, how many actions they have and how
+ * deep their owners go.
+ *
+ * @author Evan Quan
+ */
+final class Inputs {
+
+    private static final String[] VERBS = {"take", "give", "drop", "examine"};
+    private static final String[] ADJECTIVES = {"big", "red", "old", "shiny"};
+
+    /**
+     * Cannot instantiate.
+     */
+    private Inputs() {
+    }
+
+    /**
+     * @return the action types that verb gnostic parsers of benchmarks
+     * recognize verbs with.
+     */
+    static HashMap<String, String> getActionTypes() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        for (String verb : VERBS) {
+            actionTypes.put(verb, verb);
+        }
+        actionTypes.put("go", "go");
+        actionTypes.put("look", "look");
+        return actionTypes;
+    }
+
+    /**
+     * @param actions    number of actions, separated by ", then"
+     * @param adjectives number of adjectives of each direct object phrase
+     * @param depth      number of owners of each direct object phrase
+     * @return an input with the specified shape. Actions alternate verbs so
+     * that no two are the same.
+     */
+    static String getCommand(int actions, int adjectives, int depth) {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < actions; i++) {
+            if (i > 0) {
+                input.append(", then ");
+            }
+            input.append("quickly ").append(VERBS[i % VERBS.length]);
+            input.append(' ').append(getObjectPhrase(adjectives, depth));
+            input.append(" to bob");
+        }
+        return input.toString();
+    }
+
+    /**
+     * @param adjectives number of adjectives
+     * @param depth      number of owners
+     * @return an object phrase with the specified shape, such as "the big
+     * key of the door of the house" for 1 adjective and depth 2.
+     */
+    static String getObjectPhrase(int adjectives, int depth) {
+        StringBuilder input = new StringBuilder("the");
+        for (int i = 0; i < adjectives; i++) {
+            input.append(' ').append(ADJECTIVES[i % ADJECTIVES.length]);
+        }
+        input.append(" key");
+        for (int i = 0; i < depth; i++) {
+            input.append(" of the door");
+        }
+        return input.toString();
+    }
+}
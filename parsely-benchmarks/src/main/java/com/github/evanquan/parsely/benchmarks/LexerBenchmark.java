@@ -0,0 +1,60 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.Lexer;
+import com.github.evanquan.parsely.parser.LexerFactory;
+import com.github.evanquan.parsely.parser.LexerType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures splitting input into tokens, by command length, comparing each
+ * {@link LexerType}.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LexerBenchmark {
+
+    /**
+     * Number of actions of the input, each of which is about 8 tokens.
+     */
+    @Param({"1", "4", "16"})
+    public int actions;
+
+    @Param({"CHARACTER", "SCANNER"})
+    public LexerType lexerType;
+
+    private String input;
+    private Lexer lexer;
+    private TokenStream tokens;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.getCommand(actions, 2, 0);
+        lexer = LexerFactory.getLexer(lexerType);
+        tokens = new TokenStream();
+    }
+
+    @Benchmark
+    public ArrayList<String> lexicalAnalysis() {
+        return lexer.lexicalAnalysis(input);
+    }
+
+    @Benchmark
+    public TokenStream tokenize() {
+        return lexer.tokenize(input);
+    }
+
+    @Benchmark
+    public TokenStream tokenizeReusedStream() {
+        return lexer.tokenize(input, null, tokens);
+    }
+}
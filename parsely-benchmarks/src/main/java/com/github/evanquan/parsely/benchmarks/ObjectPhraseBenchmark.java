@@ -0,0 +1,55 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding object phrases in already split tokens, by the depth of
+ * their owners.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectPhraseBenchmark {
+
+    @Param({"VERB_GNOSTIC", "VERB_AGNOSTIC"})
+    public ParserType parserType;
+
+    @Param({"0", "4", "16", "64"})
+    public int depth;
+
+    private Parser parser;
+    private TokenStream tokens;
+    private ObjectPhrase objectPhrase;
+    private ObjectPhrase equalObjectPhrase;
+
+    @Setup
+    public void setUp() {
+        ParserFactory.setActionTypes(Inputs.getActionTypes());
+        parser = ParserFactory.getParser(parserType);
+        tokens = parser.getLexer().tokenize(Inputs.getObjectPhrase(2, depth));
+        objectPhrase = getObjectPhrase();
+        equalObjectPhrase = getObjectPhrase();
+    }
+
+    @Benchmark
+    public ObjectPhrase getObjectPhrase() {
+        return parser.getObjectPhrase(tokens, 0, tokens.size());
+    }
+
+    @Benchmark
+    public boolean equals() {
+        return objectPhrase.equals(equalObjectPhrase);
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.words.Command;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how parsing a large batch of generated commands scales with the
+ * number of threads.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelParseBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    /**
+     * Threads to parse with. The {@link BenchmarkRunner} sets the thread
+     * counts from the number of processors, so this default is only used
+     * when the benchmark is run some other way.
+     */
+    @Param({"1"})
+    public int threads;
+
+    private Parser parser;
+    private List<String> batch;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        ParserFactory.setActionTypes(Inputs.getActionTypes());
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        batch = new CorpusGenerator(0, Inputs.getActionTypes())
+                .setTypoRate(0.02)
+                .setCaseChangeRate(0.05)
+                .next(BATCH_SIZE);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public ArrayList<Command> parseAllParallel() {
+        return parser.parseAllParallel(batch, pool);
+    }
+}
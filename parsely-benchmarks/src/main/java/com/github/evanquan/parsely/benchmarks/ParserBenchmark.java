@@ -0,0 +1,83 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.words.Command;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing whole commands, by number of actions and command length.
+ * Multi-action commands also measure how verb gnostic parsers fill in the
+ * components that actions share.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"VERB_GNOSTIC", "VERB_AGNOSTIC"})
+    public ParserType parserType;
+
+    @Param({"1", "4", "16"})
+    public int actions;
+
+    /**
+     * Adjectives of each direct object phrase, which makes commands longer
+     * without adding actions.
+     */
+    @Param({"0", "4"})
+    public int adjectives;
+
+    private Parser parser;
+    private String input;
+    private TokenStream tokens;
+    private List<String> batch;
+
+    @Setup
+    public void setUp() {
+        ParserFactory.setActionTypes(Inputs.getActionTypes());
+        parser = ParserFactory.getParser(parserType);
+        input = Inputs.getCommand(actions, adjectives, 0);
+        tokens = new TokenStream();
+        batch = Collections.nCopies(BATCH_SIZE, input);
+    }
+
+    @Benchmark
+    public Command parse() {
+        return parser.parse(input);
+    }
+
+    @Benchmark
+    public Command parseReusedTokens() {
+        return parser.parse(input, tokens);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void parseLoop(Blackhole blackhole) {
+        for (String input : batch) {
+            blackhole.consume(parser.parse(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public ArrayList<Command> parseAll() {
+        return parser.parseAll(batch);
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.LexerType;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.words.Action;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures syntactical analysis of already lexed commands, by number of
+ * actions and owner depth, comparing the {@link ParserType#VERB_GNOSTIC}
+ * parser, which walks index ranges of one {@link TokenStream}, against the
+ * {@link CopyingSyntacticalAnalysis} it replaced. Each segment of tokens is
+ * analysed by {@link Parser#getAction(TokenStream, int, int)}, so the
+ * tokens are not lexed again.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SyntacticalAnalysisBenchmark {
+
+    private static final String[] VERBS = {"take", "give", "drop",
+            "examine"};
+
+    @Param({"1", "4", "16"})
+    public int actions;
+
+    /**
+     * Owners of each direct object phrase, such as "the key of the door".
+     */
+    @Param({"0", "4"})
+    public int depth;
+
+    private Parser parser;
+    private CopyingSyntacticalAnalysis copyingAnalysis;
+    private TokenStream tokens;
+
+    @Setup
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        for (String verb : VERBS) {
+            actionTypes.put(verb, verb);
+        }
+        ParserFactory.setActionTypes(actionTypes);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC,
+                LexerType.CHARACTER);
+        copyingAnalysis = new CopyingSyntacticalAnalysis(
+                new HashSet<>(actionTypes.keySet()));
+        tokens = new TokenStream();
+        parser.parse(getCommand(), tokens);
+        if (!indexRanges().equals(copyingLists())) {
+            throw new IllegalStateException(
+                    "Both analyses must produce the same actions");
+        }
+    }
+
+    /**
+     * @return a command such as "quickly take the big red key of the door
+     * to bob, then quickly GIVE ..." with the benchmark's shape.
+     */
+    private String getCommand() {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < actions; i++) {
+            if (i > 0) {
+                input.append(", then ");
+            }
+            String verb = VERBS[i % VERBS.length];
+            // Verbs are recognized ignoring case
+            input.append("quickly ").append(i % 2 == 0 ? verb
+                    : verb.toUpperCase(Locale.ROOT));
+            input.append(" the big red key");
+            for (int j = 0; j < depth; j++) {
+                input.append(" of the door");
+            }
+            input.append(" to bob");
+        }
+        return input.toString();
+    }
+
+    @Benchmark
+    public ArrayList<Action> indexRanges() {
+        ArrayList<Action> actions = new ArrayList<>();
+        for (int i = 0; i < tokens.getSegmentCount(); i++) {
+            Action action = parser.getAction(tokens,
+                    tokens.getSegmentStart(i), tokens.getSegmentEnd(i));
+            if (!action.isEmpty()) {
+                actions.add(action);
+            }
+        }
+        return actions;
+    }
+
+    @Benchmark
+    public ArrayList<Action> copyingLists() {
+        return copyingAnalysis.parseActions(tokens);
+    }
+}
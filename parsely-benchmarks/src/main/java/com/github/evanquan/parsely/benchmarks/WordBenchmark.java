@@ -0,0 +1,85 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.words.Word;
+import com.github.evanquan.parsely.words.WordClass;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures classifying words, for a mix of known and unknown words in
+ * either case.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordBenchmark {
+
+    private static final String[] WORDS = {"the", "Key", "of", "DOOR", "to",
+            "quickly", "3", "then", ",", "give", "north", "all"};
+
+    /**
+     * Verbs of the action types, looked up as the verb gnostic parser looks
+     * them up.
+     */
+    private CaseInsensitiveTable verbs;
+
+    @Setup
+    public void setUp() {
+        verbs = new CaseInsensitiveTable();
+        verbs.addAll(Arrays.asList("give", "take", "drop", "go"),
+                WordClass.VERB);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public void getWordClass(Blackhole blackhole) {
+        for (String word : WORDS) {
+            blackhole.consume(Word.getWordClass(word));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public void isDeterminer(Blackhole blackhole) {
+        for (String word : WORDS) {
+            blackhole.consume(Word.isDeterminer(word));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public void isObjectPhraseSeparatingPreposition(Blackhole blackhole) {
+        for (String word : WORDS) {
+            blackhole.consume(Word.isObjectPhraseSeparatingPreposition(word));
+        }
+    }
+
+    /**
+     * Verbs are not known to {@link Word}, whose isVerb is deprecated, but to
+     * the action types of a parser.
+     */
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public void isVerb(Blackhole blackhole) {
+        for (String word : WORDS) {
+            blackhole.consume(verbs.contains(word));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public void isActionSeparator(Blackhole blackhole) {
+        for (String word : WORDS) {
+            blackhole.consume(Word.isActionSeparator(word));
+        }
+    }
+}
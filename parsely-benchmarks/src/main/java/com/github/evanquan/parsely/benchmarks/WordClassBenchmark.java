@@ -0,0 +1,128 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import com.github.evanquan.parsely.parser.Lexer;
+import com.github.evanquan.parsely.parser.LexerFactory;
+import com.github.evanquan.parsely.parser.LexerType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.words.Word;
+import com.github.evanquan.parsely.words.WordClass;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures classifying the tokens of a command, by number of actions,
+ * comparing asking each predicate of {@link Word} that syntactical analysis
+ * needs of every token, which is a lookup per predicate, against classifying
+ * each token once with {@link Word#getWordClass(CharSequence)} and testing
+ * the bits of its {@link WordClass}, and against testing the bits of a
+ * {@link TokenStream} that was classified while lexing, as the parsers do.
+ * Alongside how long it takes, each benchmark counts the lookups it makes as
+ * it makes them and how many commands it classifies, so that lookups per
+ * command is lookups divided by commands.
+ *
+ * @author Evan Quan
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WordClassBenchmark {
+
+    /**
+     * Number of actions of the command, each of which is about 8 tokens.
+     */
+    @Param({"1", "4", "16"})
+    public int actions;
+
+    private ArrayList<String> tokens;
+    private TokenStream classifiedTokens;
+
+    /**
+     * Counts lookups and commands over each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Lookups {
+
+        public long lookups;
+        public long commands;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            commands = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Lexer lexer = LexerFactory.getLexer(LexerType.CHARACTER);
+        String command = Inputs.getCommand(actions, 2, 1);
+        tokens = lexer.lexicalAnalysis(command);
+        classifiedTokens = lexer.tokenize(command);
+    }
+
+    /**
+     * Ask each predicate that splitting actions, verb phrases, object
+     * phrases and owners needs of every token, as the parsers did before
+     * tokens were classified while lexing.
+     */
+    @Benchmark
+    public void perPredicate(Lookups lookups, Blackhole blackhole) {
+        for (String token : tokens) {
+            blackhole.consume(Word.isActionSeparator(token));
+            blackhole.consume(Word.isAdverb(token));
+            blackhole.consume(Word.isDeterminer(token));
+            blackhole.consume(Word.isObjectPhraseSeparatingPreposition(token));
+            blackhole.consume(Word.isBelongingPreposition(token));
+            lookups.lookups += 5;
+        }
+        lookups.commands++;
+    }
+
+    /**
+     * Classify every token once and answer the same questions with bit
+     * tests.
+     */
+    @Benchmark
+    public void classifyOnce(Lookups lookups, Blackhole blackhole) {
+        for (String token : tokens) {
+            int wordClass = Word.getWordClass(token);
+            blackhole.consume((wordClass & WordClass.ACTION_SEPARATOR) != 0);
+            blackhole.consume((wordClass & WordClass.ADVERB) != 0);
+            blackhole.consume((wordClass & WordClass.DETERMINER) != 0);
+            blackhole.consume((wordClass
+                    & WordClass.OBJECT_PHRASE_SEPARATING_PREPOSITION) != 0);
+            blackhole.consume((wordClass
+                    & WordClass.BELONGING_PREPOSITION) != 0);
+            lookups.lookups++;
+        }
+        lookups.commands++;
+    }
+
+    /**
+     * Answer the same questions with bit tests of tokens that were
+     * classified while lexing, as syntactical analysis does. Each token was
+     * looked up once by the lexer, which is counted here, but is not looked
+     * up again.
+     */
+    @Benchmark
+    public void classifiedWhileLexing(Lookups lookups, Blackhole blackhole) {
+        TokenStream tokens = classifiedTokens;
+        for (int i = 0; i < tokens.size(); i++) {
+            blackhole.consume(tokens.is(i, WordClass.ACTION_SEPARATOR));
+            blackhole.consume(tokens.is(i, WordClass.ADVERB));
+            blackhole.consume(tokens.is(i, WordClass.DETERMINER));
+            blackhole.consume(tokens.is(i,
+                    WordClass.OBJECT_PHRASE_SEPARATING_PREPOSITION));
+            blackhole.consume(tokens.is(i, WordClass.BELONGING_PREPOSITION));
+        }
+        lookups.lookups += tokens.size();
+        lookups.commands++;
+    }
+}
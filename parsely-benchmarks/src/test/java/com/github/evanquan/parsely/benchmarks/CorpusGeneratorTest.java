@@ -0,0 +1,64 @@
+package com.github.evanquan.parsely.benchmarks;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * JUnit 4 tests for {@link CorpusGenerator}, which is in the same package so
+ * it can use the package-private {@link Inputs}.
+ *
+ * @author Evan Quan
+ */
+public class CorpusGeneratorTest {
+
+    private static final int COUNT = 1_000;
+
+    /**
+     * @param seed of the generator
+     * @return commands generated with typos and case changes.
+     */
+    private static List<String> generate(long seed) {
+        return new CorpusGenerator(seed, Inputs.getActionTypes())
+                .setTypoRate(0.02)
+                .setCaseChangeRate(0.05)
+                .next(COUNT);
+    }
+
+    @Test
+    public void next_sameSeed_sameCommands() {
+        assertEquals(generate(42), generate(42));
+    }
+
+    @Test
+    public void next_differentSeed_differentCommands() {
+        assertNotEquals(generate(42), generate(43));
+    }
+
+    @Test
+    public void next_count_sizeEqualsCount() {
+        assertEquals(COUNT, generate(0).size());
+    }
+
+    @Test
+    public void getThreadCounts_powerOf2_endsWithProcessors() {
+        assertArrayEquals(new String[]{"1", "2", "4", "8"},
+                BenchmarkRunner.getThreadCounts(8));
+    }
+
+    @Test
+    public void getThreadCounts_notPowerOf2_endsWithProcessors() {
+        assertArrayEquals(new String[]{"1", "2", "4", "6"},
+                BenchmarkRunner.getThreadCounts(6));
+    }
+
+    @Test
+    public void getThreadCounts_oneProcessor_one() {
+        assertArrayEquals(new String[]{"1"},
+                BenchmarkRunner.getThreadCounts(1));
+    }
+}
@@ -64,6 +64,8 @@ public class ActionType {
      * requirements are met, the list will be empty.
      */
     public ArrayList<Requirement> checkForValidity(Action action) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
         ArrayList<Requirement> failedRequirements = new ArrayList<>();
 
         for (Requirement requirement : requirements) {
@@ -72,6 +74,15 @@ public class ActionType {
             }
         }
 
+        if (event.shouldCommit()) {
+            event.actionType = primaryVerb;
+            event.verb = action.hasVerbPhrase()
+                    ? action.getVerbPhrase().getVerb() : null;
+            event.failedRequirementCount = failedRequirements.size();
+            event.outcome = failedRequirements.isEmpty()
+                    ? ValidationEvent.VALID : ValidationEvent.INVALID;
+            event.commit();
+        }
         return failedRequirements;
     }
 
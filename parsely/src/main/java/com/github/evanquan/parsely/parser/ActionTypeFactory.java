@@ -1,7 +1,6 @@
 package com.github.evanquan.parsely.parser;
 
 import java.util.Collection;
-import java.util.HashSet;
 
 /**
  * Creates {@link ActionType}s.
@@ -36,9 +35,10 @@ final class ActionTypeFactory {
 
     /**
      * Tracks verbs that have already been used in configuring {@link
-     * ActionType}s.
+     * ActionType}s, unless another registry is specified.
      */
-    private static HashSet<String> usedVerbs = new HashSet<>();
+    private static final ActionTypeRegistry DEFAULT_REGISTRY =
+            new ActionTypeRegistry();
 
     /**
      * Cannot instantiate
@@ -68,14 +68,44 @@ final class ActionTypeFactory {
                                     Requirement prepositionRequirement,
                                     Requirement indirectObjectPhraseRequirement
     ) throws Exception {
-        addVerbsToUsed(primaryVerb, synonyms);
+        return getActionType(DEFAULT_REGISTRY, primaryVerb, synonyms,
+                directObjectPhraseRequirement, prepositionRequirement,
+                indirectObjectPhraseRequirement);
+    }
 
-        return new ActionType(primaryVerb,
-                new HashSet<>(synonyms),
-                directObjectPhraseRequirement,
-                prepositionRequirement,
-                indirectObjectPhraseRequirement
-        );
+    /**
+     * Retrieve an {@link ActionType} whose verbs are registered to the
+     * specified registry rather than the default one.
+     *
+     * @param registry                        to register the verbs of the
+     *                                        action type to
+     * @param primaryVerb                     of the action type
+     * @param synonyms                        of the primary verb
+     * @param directObjectPhraseRequirement   to check for validity
+     * @param prepositionRequirement          to check for validity
+     * @param indirectObjectPhraseRequirement to check for validity
+     * @return the configured {@link ActionType}.
+     * @throws Exception if the verb is already being used by another {@link
+     *                   ActionType} of the registry.
+     */
+    static ActionType getActionType(ActionTypeRegistry registry,
+                                    String primaryVerb,
+                                    Collection<String> synonyms,
+                                    Requirement directObjectPhraseRequirement,
+                                    Requirement prepositionRequirement,
+                                    Requirement indirectObjectPhraseRequirement
+    ) throws Exception {
+        return registry.register(primaryVerb, synonyms,
+                directObjectPhraseRequirement, prepositionRequirement,
+                indirectObjectPhraseRequirement);
+    }
+
+    /**
+     * @return the registry that action types are registered to unless
+     * another is specified.
+     */
+    static ActionTypeRegistry getDefaultRegistry() {
+        return DEFAULT_REGISTRY;
     }
 
     enum Transitivity {
@@ -88,44 +118,11 @@ final class ActionTypeFactory {
     }
 
     /**
-     * Add verbs to the used verbs collection. This ensures that there are never
-     * duplicate verbs when creating {@link ActionType}s.
-     *
-     * @param primaryVerb of the {@link ActionType} to add
-     * @param synonyms    of the {@link ActionType} to add
-     * @throws Exception if the primaryVerb or synonyms contain a verb already
-     *                   used by another {@link ActionType}.
-     */
-    private static void addVerbsToUsed(String primaryVerb,
-                                       Collection<String> synonyms) throws Exception {
-        String duplicateVerb = null;
-
-        if (!usedVerbs.add(primaryVerb)) {
-            duplicateVerb = primaryVerb;
-        }
-
-        for (String verb : synonyms) {
-            if (!usedVerbs.add(verb)) {
-                duplicateVerb = verb;
-            }
-        }
-
-        if (duplicateVerb != null) {
-            throw new Exception("The verb \"" + duplicateVerb + "\" has already" +
-                    " been used by another ActionType. Duplicate verbs are " +
-                    "not allowed.");
-        }
-    }
-
-    /**
-     * @param actionType to remove
+     * @param actionType to remove from the default registry
      * @return true if the action was removed.
      */
     private static boolean removeActionType(ActionType actionType) {
-        // Bitwise OR prevents short-circuiting, so both evaluate.
-        return usedVerbs.remove(actionType.getPrimaryVerb())
-                | usedVerbs.removeAll(actionType.getSynonyms());
-
+        return DEFAULT_REGISTRY.unregister(actionType);
     }
 
 }
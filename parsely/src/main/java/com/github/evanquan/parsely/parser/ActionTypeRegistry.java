@@ -0,0 +1,213 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Action;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Maps each verb, primary or synonym, to the one {@link ActionType} that it
+ * belongs to. Verbs are matched ignoring case, as parsers recognize verbs
+ * ignoring case. Each game can have its own registry, so that games in the
+ * same JVM do not share verbs. Parsers that recognize the verbs of a
+ * registry are retrieved by {@link ParserFactory#getParser(
+ * ActionTypeRegistry)}, and actions are checked against the action type of
+ * their verb by {@link #checkForValidity(Action)}.
+ * <p>
+ * The verbs are kept in an unmodifiable map that is replaced, rather than
+ * changed, whenever action types are registered or unregistered. Lookups
+ * read the current map without locking, and registrations either add all of
+ * their verbs or none of them, however many threads register at the same
+ * time.
+ *
+ * @author Evan Quan
+ */
+public final class ActionTypeRegistry {
+
+    /**
+     * Action types by lower case verb. Never modified once set.
+     */
+    private final AtomicReference<Map<String, ActionType>> actionTypes =
+            new AtomicReference<>(Collections.emptyMap());
+    /**
+     * Parsers that recognize the verbs of this registry, by configuration.
+     */
+    private final ConcurrentHashMap<ParserFactory.Configuration, Parser>
+            parsers = new ConcurrentHashMap<>();
+
+    /**
+     * @param verb to look up
+     * @return the action type that the verb belongs to, or null if it does
+     * not belong to any.
+     */
+    public ActionType get(String verb) {
+        return actionTypes.get().get(verb.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param verb to look up
+     * @return true if the verb belongs to an action type.
+     */
+    public boolean contains(String verb) {
+        return actionTypes.get().containsKey(verb.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the number of verbs, primary or synonym.
+     */
+    public int size() {
+        return actionTypes.get().size();
+    }
+
+    /**
+     * @return an unmodifiable snapshot of the action types by lower case
+     * verb. Later registrations do not change it.
+     */
+    public Map<String, ActionType> getActionTypes() {
+        return actionTypes.get();
+    }
+
+    /**
+     * Check an action against the requirements of the action type that its
+     * verb belongs to.
+     *
+     * @param action to check
+     * @return the requirements that the action does not meet, or null if the
+     * action has no verb or its verb does not belong to any action type.
+     */
+    public ArrayList<Requirement> checkForValidity(Action action) {
+        if (!action.hasVerbPhrase()
+                || action.getVerbPhrase().getVerb() == null) {
+            return null;
+        }
+        ActionType actionType = get(action.getVerbPhrase().getVerb());
+        return actionType == null
+                ? null : actionType.checkForValidity(action);
+    }
+
+    /**
+     * Create an action type and add its verbs, unless any of them already
+     * belong to an action type, in which case none are added.
+     *
+     * @param primaryVerb                     of the action type. The action
+     *                                        will primarily be referred to by
+     *                                        this verb.
+     * @param synonyms                        of the primary verb
+     * @param directObjectPhraseRequirement   to check for validity
+     * @param prepositionRequirement          to check for validity
+     * @param indirectObjectPhraseRequirement to check for validity
+     * @return the registered {@link ActionType}.
+     * @throws IllegalArgumentException if the primary verb or a synonym
+     *                                  already belongs to an action type, or
+     *                                  is given more than once
+     */
+    public ActionType register(String primaryVerb,
+                               Collection<String> synonyms,
+                               Requirement directObjectPhraseRequirement,
+                               Requirement prepositionRequirement,
+                               Requirement indirectObjectPhraseRequirement) {
+        ActionType actionType = new ActionType(primaryVerb,
+                new HashSet<>(synonyms), directObjectPhraseRequirement,
+                prepositionRequirement, indirectObjectPhraseRequirement);
+        register(actionType);
+        return actionType;
+    }
+
+    /**
+     * Add the verbs of an action type, unless any of them already belong to
+     * an action type, in which case none are added.
+     *
+     * @param actionType to add
+     * @throws IllegalArgumentException if the primary verb or a synonym of
+     *                                  the action type already belongs to an
+     *                                  action type.
+     */
+    void register(ActionType actionType) {
+        Set<String> verbs = getVerbs(actionType.getPrimaryVerb(),
+                actionType.getSynonyms());
+        while (true) {
+            Map<String, ActionType> current = actionTypes.get();
+            for (String verb : verbs) {
+                if (current.containsKey(verb)) {
+                    throw new IllegalArgumentException("The verb \"" + verb
+                            + "\" has already been used by another "
+                            + "ActionType. Duplicate verbs are not allowed.");
+                }
+            }
+            HashMap<String, ActionType> next = new HashMap<>(current);
+            for (String verb : verbs) {
+                next.put(verb, actionType);
+            }
+            // Retry if another thread changed the map since it was read
+            if (actionTypes.compareAndSet(current,
+                    Collections.unmodifiableMap(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the verbs of an action type.
+     *
+     * @param actionType to remove
+     * @return true if the action type was registered, and so was removed.
+     */
+    public boolean unregister(ActionType actionType) {
+        while (true) {
+            Map<String, ActionType> current = actionTypes.get();
+            HashMap<String, ActionType> next = new HashMap<>(current);
+            // Only verbs that belong to this action type are removed
+            if (!next.values().removeIf(type -> type == actionType)) {
+                return false;
+            }
+            if (actionTypes.compareAndSet(current,
+                    Collections.unmodifiableMap(next))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Forget all action types.
+     */
+    public void clear() {
+        actionTypes.set(Collections.emptyMap());
+    }
+
+    /**
+     * @return the parsers that recognize the verbs of this registry, by
+     * configuration.
+     */
+    ConcurrentHashMap<ParserFactory.Configuration, Parser> getParsers() {
+        return parsers;
+    }
+
+    /**
+     * @param primaryVerb of an action type
+     * @param synonyms    of the primary verb
+     * @return the lower case verbs of the action type.
+     * @throws IllegalArgumentException if the same verb is given more than
+     *                                  once
+     */
+    private static Set<String> getVerbs(String primaryVerb,
+                                        Collection<String> synonyms) {
+        LinkedHashSet<String> verbs = new LinkedHashSet<>();
+        verbs.add(primaryVerb.toLowerCase(Locale.ROOT));
+        for (String synonym : synonyms) {
+            if (!verbs.add(synonym.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("The verb \"" + synonym
+                        + "\" is given more than once.");
+            }
+        }
+        return verbs;
+    }
+}
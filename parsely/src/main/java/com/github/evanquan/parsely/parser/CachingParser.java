@@ -0,0 +1,276 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the actions of recently parsed inputs so that inputs that are
+ * entered often, such as "look" or "go north", are only parsed once. Any
+ * {@link Parser} can be cached.
+ * <p>
+ * Inputs are considered the same if they only differ by whitespace, as
+ * whitespace only separates tokens. Optionally, they can also be considered
+ * the same if they differ by case. As tokens keep their case, a cached
+ * command then has the case of the first input it was parsed from.
+ * <p>
+ * The cache is split into segments by input, each of which evicts its least
+ * recently used input once it is full, so threads parsing different inputs
+ * rarely wait for each other. Cached actions are
+ * {@link Action#toImmutable() immutable}, so commands can share them without
+ * callers corrupting the cache. Commands parsed by a caching parser are
+ * therefore made of immutable actions, unlike those of other parsers.
+ *
+ * @author Evan Quan
+ */
+public final class CachingParser extends Parser {
+
+    /**
+     * The default maximum number of inputs remembered.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Parser parser;
+    private final boolean ignoreCase;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Remembers up to {@link #DEFAULT_CAPACITY} inputs, considering case.
+     *
+     * @param parser to parse inputs that are not cached with
+     */
+    public CachingParser(Parser parser) {
+        this(parser, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * @param parser     to parse inputs that are not cached with
+     * @param capacity   maximum number of inputs remembered
+     * @param ignoreCase if true, inputs that only differ by case are
+     *                   considered the same
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public CachingParser(Parser parser, int capacity, boolean ignoreCase) {
+        super(parser.getLexer());
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Capacity must be positive: " + capacity);
+        }
+        this.parser = parser;
+        this.ignoreCase = ignoreCase;
+        // Highest power of 2 that fits, so the capacity is not exceeded
+        int segmentCount = Integer.highestOneBit(
+                Math.min(capacity, MAX_SEGMENTS));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so the capacities add up to capacity
+            segments[i] = new Segment(capacity / segmentCount
+                    + (i < capacity % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * @return the parser that inputs that are not cached are parsed with.
+     */
+    public Parser getParser() {
+        return parser;
+    }
+
+    /**
+     * @return the number of inputs whose actions were cached.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of inputs whose actions were not cached, and so
+     * were parsed.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of inputs that were removed from the cache to make
+     * room for others.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of inputs currently cached.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Remove all cached inputs. Counts are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @param input  to parse into words
+     * @param tokens to clear and split the input into, if it is not cached
+     * @return copies of the cached actions of the input, which themselves
+     * are immutable.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens) {
+        return parseActions(input, tokens, null);
+    }
+
+    /**
+     * Inputs that are cached are not timed, as they are not parsed.
+     *
+     * @param input    to parse into words
+     * @param tokens   to clear and split the input into, if it is not cached
+     * @param listener to tell how long each phase of parsing inputs that are
+     *                 not cached takes, or null if parsing is not timed
+     * @return copies of the cached actions of the input, which themselves
+     * are immutable.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens,
+                                   ParseListener listener) {
+        String key = normalize(input);
+        Segment segment = segments[spread(key.hashCode())
+                & (segments.length - 1)];
+        ArrayList<Action> actions;
+        synchronized (segment) {
+            actions = segment.get(key);
+        }
+        if (actions != null) {
+            hits.increment();
+            return new ArrayList<>(actions);
+        }
+        misses.increment();
+        // Parse outside of the lock so other inputs of the segment are not
+        // held up. If another thread parses the same input meanwhile, either
+        // result can be kept as they are equal.
+        actions = parser.parseActions(input, tokens, listener);
+        for (int i = 0; i < actions.size(); i++) {
+            actions.set(i, actions.get(i).toImmutable());
+        }
+        synchronized (segment) {
+            segment.put(key, actions);
+        }
+        return new ArrayList<>(actions);
+    }
+
+    @Override
+    public Action getAction(TokenStream tokens, int start, int end) {
+        return parser.getAction(tokens, start, end);
+    }
+
+    @Override
+    public ObjectPhrase getObjectPhrase(TokenStream tokens, int start,
+                                        int end) {
+        return parser.getObjectPhrase(tokens, start, end);
+    }
+
+    /**
+     * @param input to normalize
+     * @return the input with runs of whitespace replaced by a single space,
+     * no leading or trailing whitespace, and lower case if case is ignored.
+     * The input itself is returned if it is already normalized.
+     */
+    private String normalize(CharSequence input) {
+        int length = input.length();
+        if (input instanceof String && isNormalized(input)) {
+            return (String) input;
+        }
+        StringBuilder key = new StringBuilder(length);
+        boolean space = false;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = key.length() > 0;
+            } else {
+                if (space) {
+                    key.append(' ');
+                    space = false;
+                }
+                key.append(ignoreCase ? Character.toLowerCase(c) : c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * @param input to check
+     * @return true if normalizing the input does not change it.
+     */
+    private boolean isNormalized(CharSequence input) {
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (c != ' ' || i == 0 || i == length - 1
+                        || input.charAt(i - 1) == ' ') {
+                    return false;
+                }
+            } else if (ignoreCase && Character.toLowerCase(c) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param hash to spread
+     * @return the hash with its high bits mixed into its low bits, which
+     * select the segment.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Inputs and their actions, in order of least to most recently used.
+     */
+    private final class Segment extends LinkedHashMap<String, ArrayList<Action>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<String, ArrayList<Action>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
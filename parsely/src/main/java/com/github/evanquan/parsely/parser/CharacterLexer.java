@@ -0,0 +1,98 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.util.CollectionUtils;
+
+import java.util.ArrayList;
+
+/**
+ * Splits input into tokens by walking it one character at a time. Whitespace
+ * and punctuation are recognized inline, so no intermediate token is created
+ * before punctuation is split off of it.
+ * <p>
+ * Whitespace is defined by {@link Character#isWhitespace(char)}, which is
+ * the same as the default {@link java.util.Scanner} delimiter, so the
+ * resulting tokens are identical to {@link Parser#lexicalAnalysis(String)}.
+ *
+ * @author Evan Quan
+ */
+final class CharacterLexer extends Lexer {
+
+    private static final CharacterLexer instance = new CharacterLexer();
+
+    private CharacterLexer() {
+    }
+
+    /**
+     * Can only be instantiated by {@link LexerFactory}
+     */
+    static CharacterLexer getInstance() {
+        return instance;
+    }
+
+    @Override
+    public ArrayList<String> lexicalAnalysis(String input) {
+        return tokenize(input).toList();
+    }
+
+    @Override
+    public TokenStream tokenize(CharSequence input,
+                                CaseInsensitiveTable verbs,
+                                TokenStream tokens) {
+        tokens.reset(input, verbs);
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            // Skip over whitespace between tokens
+            while (i < length && Character.isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (start < i) {
+                addToken(tokens, input, start, i);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Equivalent to {@link Parser#addToken(ArrayList, String)} for the token
+     * input[start, end), without creating the token before splitting
+     * punctuation off of it.
+     *
+     * @param tokens to add token to
+     * @param input  containing the token
+     * @param start  index of the token, inclusive
+     * @param end    index of the token, exclusive
+     */
+    private static void addToken(TokenStream tokens, CharSequence input,
+                                 int start, int end) {
+        if (CollectionUtils.contains(Parser.START_PUNCTUATION,
+                input.charAt(start))) {
+            tokens.add(start, start + 1);
+            start++;
+            if (start == end) {
+                return;
+            }
+        }
+
+        boolean endsWithPunctuation = CollectionUtils.contains(
+                Parser.END_PUNCTUATION, input.charAt(end - 1));
+        if (endsWithPunctuation) {
+            end--;
+        }
+
+        if (start < end) {
+            // If the token is empty, then the token was punctuation on its
+            // own, which is added below.
+            tokens.add(start, end);
+        }
+        // End punctuation is added after words to preserve token order
+        if (endsWithPunctuation) {
+            tokens.add(end, end + 1);
+        }
+    }
+}
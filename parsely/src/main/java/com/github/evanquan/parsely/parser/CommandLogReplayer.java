@@ -0,0 +1,383 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Action;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a line delimited command log through a {@link Parser} and
+ * summarizes the results, such as to check how a change to the verbs affects
+ * the commands players have already entered.
+ * <p>
+ * The log is memory-mapped in chunks that end at line breaks, and the chunks
+ * are parsed in parallel. Each thread decodes chunks into its own reused
+ * character buffer and parses each line as a view of that buffer, so no
+ * {@link String} is created per line.
+ *
+ * @author Evan Quan
+ */
+public final class CommandLogReplayer {
+
+    /**
+     * The default number of bytes of the log each thread maps at a time.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final Parser parser;
+    /**
+     * Action types by lower case verb, or null if verbs are not checked.
+     */
+    private final Map<String, ActionType> actionTypes;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    /**
+     * Verbs are not checked, so only actions and commands are counted.
+     *
+     * @param parser to parse each line with
+     */
+    public CommandLogReplayer(Parser parser) {
+        this(parser, null);
+    }
+
+    /**
+     * Lines are parsed by a parser that recognizes the verbs of the
+     * registry, and each action is checked against the action type of its
+     * verb. Action types registered after this call are not used.
+     *
+     * @param registry of the action types to recognize and check verbs with
+     */
+    public CommandLogReplayer(ActionTypeRegistry registry) {
+        this(ParserFactory.getParser(registry), registry.getActionTypes());
+    }
+
+    /**
+     * @param parser      to parse each line with
+     * @param actionTypes to check the verb of each action against, by lower
+     *                    case verb. Verbs that are not keys are unknown.
+     *                    Verbs with a null action type are known, but have
+     *                    no requirements.
+     */
+    public CommandLogReplayer(Parser parser,
+                              Map<String, ActionType> actionTypes) {
+        this(parser, actionTypes, DEFAULT_CHUNK_SIZE,
+                CommandStream.DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * @param parser        to parse each line with
+     * @param actionTypes   to check the verb of each action against, by
+     *                      lower case verb, or null to not check verbs
+     * @param chunkSize     number of bytes of the log each thread maps at a
+     *                      time. Chunks are extended to the end of the line
+     *                      they end in.
+     * @param maxLineLength maximum number of bytes in a line
+     * @throws IllegalArgumentException if chunkSize or maxLineLength are not
+     *                                  positive, or together are too large
+     *                                  to be mapped at once
+     */
+    public CommandLogReplayer(Parser parser,
+                              Map<String, ActionType> actionTypes,
+                              int chunkSize, int maxLineLength) {
+        if (chunkSize <= 0 || maxLineLength <= 0
+                || (long) chunkSize + maxLineLength >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid chunk size "
+                    + chunkSize + " or maximum line length " + maxLineLength);
+        }
+        this.parser = parser;
+        this.actionTypes = actionTypes;
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Replay a UTF-8 log on the common {@link ForkJoinPool}.
+     *
+     * @param path of the log
+     * @return a summary of the commands of the log.
+     * @throws IOException if the log cannot be read, or has a line longer
+     *                     than the maximum line length
+     */
+    public ReplaySummary replay(Path path) throws IOException {
+        return replay(path, StandardCharsets.UTF_8, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param path    of the log
+     * @param charset of the log. Line breaks must be encoded as the single
+     *                bytes '\n' and '\r', as in UTF-8 and ISO-8859-1.
+     * @param pool    to parse chunks of the log on
+     * @return a summary of the commands of the log.
+     * @throws IOException              if the log cannot be read, or has a
+     *                                  line longer than the maximum line
+     *                                  length
+     * @throws IllegalArgumentException if the charset does not encode line
+     *                                  breaks as single bytes
+     */
+    public ReplaySummary replay(Path path, Charset charset, ForkJoinPool pool)
+            throws IOException {
+        if (!Arrays.equals("\r\n".getBytes(charset), new byte[]{'\r', '\n'})) {
+            throw new IllegalArgumentException(charset
+                    + " does not encode line breaks as single bytes");
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+            long[] boundaries = getChunkBoundaries(channel);
+            AtomicInteger nextChunk = new AtomicInteger();
+            int workerCount = Math.min(pool.getParallelism(),
+                    boundaries.length - 1);
+            List<Callable<ReplaySummary.Counts>> workers = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(() -> replayChunks(channel, boundaries, nextChunk,
+                        charset));
+            }
+            ReplaySummary.Counts counts = new ReplaySummary.Counts();
+            for (Future<ReplaySummary.Counts> worker : pool.invokeAll(workers)) {
+                counts.add(getCounts(worker));
+            }
+            return counts.toSummary();
+        }
+    }
+
+    /**
+     * @param channel of the log
+     * @return the offset of the start of each chunk, followed by the size of
+     * the log. Every chunk but the last ends with a line break.
+     * @throws IOException if the log cannot be read, or a line is too long
+     *                     to find its end
+     */
+    private long[] getChunkBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] boundaries = new long[(int) (size / chunkSize) + 2];
+        int count = 0;
+        long start = 0;
+        boundaries[count++] = start;
+        while (start < size) {
+            long end = start + chunkSize;
+            end = end >= size ? size : getLineEnd(channel, end - 1, size);
+            boundaries[count++] = end;
+            start = end;
+        }
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Lines end with "\n", "\r" or "\r\n", so a "\r" that is followed by a
+     * "\n" ends the line after the "\n", keeping the two in one chunk.
+     *
+     * @param channel of the log
+     * @param from    offset to start looking for a line break from
+     * @param size    of the log
+     * @return the offset after the first line break at or after from, or the
+     * size if the log ends first.
+     * @throws IOException if the log cannot be read, or the line break is
+     *                     further away than the maximum line length
+     */
+    private long getLineEnd(FileChannel channel, long from, long size)
+            throws IOException {
+        long searched = Math.min(size - from, maxLineLength + 1L);
+        // One more byte is mapped to see if a "\r" is followed by a "\n"
+        long length = Math.min(size - from, searched + 1);
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+                from, length);
+        for (int i = 0; i < searched; i++) {
+            byte b = bytes.get(i);
+            if (b == '\n') {
+                return from + i + 1;
+            }
+            if (b == '\r') {
+                return i + 1 < length && bytes.get(i + 1) == '\n'
+                        ? from + i + 2 : from + i + 1;
+            }
+        }
+        if (from + searched == size) {
+            return size;
+        }
+        throw new IOException("The line at byte " + from
+                + " is longer than " + maxLineLength + " bytes");
+    }
+
+    /**
+     * Replay chunks until there are none left.
+     *
+     * @param channel    of the log
+     * @param boundaries of the chunks
+     * @param nextChunk  index of the next chunk that has not been replayed
+     * @param charset    of the log
+     * @return the counts of all chunks replayed by this thread.
+     * @throws IOException if the log cannot be read, or has a line longer
+     *                     than the maximum line length
+     */
+    private ReplaySummary.Counts replayChunks(FileChannel channel,
+                                              long[] boundaries,
+                                              AtomicInteger nextChunk,
+                                              Charset charset)
+            throws IOException {
+        ReplaySummary.Counts counts = new ReplaySummary.Counts();
+        TokenStream tokens = new TokenStream();
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate((int) Math.ceil(
+                ((long) chunkSize + maxLineLength) * decoder.maxCharsPerByte()));
+        int chunk;
+        while ((chunk = nextChunk.getAndIncrement()) < boundaries.length - 1) {
+            long start = boundaries[chunk];
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+                    start, boundaries[chunk + 1] - start);
+            decode(decoder, bytes, chars);
+            replayLines(chars, tokens, counts, start);
+        }
+        return counts;
+    }
+
+    /**
+     * @param decoder to decode with
+     * @param bytes   to decode
+     * @param chars   to clear and decode the bytes into
+     * @throws CharacterCodingException if the characters do not fit
+     */
+    private static void decode(CharsetDecoder decoder, ByteBuffer bytes,
+                               CharBuffer chars)
+            throws CharacterCodingException {
+        decoder.reset();
+        chars.clear();
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        result = decoder.flush(chars);
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        chars.flip();
+    }
+
+    /**
+     * Replay each line of a decoded chunk. Lines end with "\n", "\r" or
+     * "\r\n", the same as {@link CommandStream}.
+     *
+     * @param chars      of the chunk
+     * @param tokens     to split each line into
+     * @param counts     to count the commands of each line in
+     * @param chunkStart offset of the chunk in the log
+     * @throws IOException if a line is longer than the maximum line length
+     */
+    private void replayLines(CharBuffer chars, TokenStream tokens,
+                             ReplaySummary.Counts counts, long chunkStart)
+            throws IOException {
+        int length = chars.limit();
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.get(i);
+            if (c == '\n' || c == '\r') {
+                replayLine(chars, lineStart, i, tokens, counts, chunkStart);
+                if (c == '\r' && i + 1 < length && chars.get(i + 1) == '\n') {
+                    i++;
+                }
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < length) {
+            // The last line of the log does not need a line break
+            replayLine(chars, lineStart, length, tokens, counts, chunkStart);
+        }
+    }
+
+    private void replayLine(CharBuffer chars, int start, int end,
+                            TokenStream tokens, ReplaySummary.Counts counts,
+                            long chunkStart) throws IOException {
+        if (end - start > maxLineLength) {
+            throw new IOException("A line in the chunk at byte " + chunkStart
+                    + " is longer than " + maxLineLength + " characters");
+        }
+        ArrayList<Action> actions =
+                parser.parseActions(chars.subSequence(start, end), tokens);
+        counts.addCommand(actions.size());
+        for (Action action : actions) {
+            if (!action.hasVerbPhrase() || !action.getVerbPhrase().hasVerb()) {
+                counts.addActionWithoutVerb();
+            } else if (actionTypes != null) {
+                checkVerb(action, counts);
+            }
+        }
+    }
+
+    /**
+     * Count the action if its verb is unknown, or it does not meet the
+     * requirements of its {@link ActionType}.
+     *
+     * @param action with a verb to check
+     * @param counts to count the action in
+     */
+    private void checkVerb(Action action, ReplaySummary.Counts counts) {
+        String verb = action.getVerbPhrase().getVerb()
+                .toLowerCase(Locale.ROOT);
+        if (!actionTypes.containsKey(verb)) {
+            counts.addUnknownVerb(verb);
+            return;
+        }
+        ActionType actionType = actionTypes.get(verb);
+        if (actionType == null) {
+            return;
+        }
+        ArrayList<Requirement> failed = actionType.checkForValidity(action);
+        if (!failed.isEmpty()) {
+            counts.addInvalidAction(
+                    failed.contains(actionType.getDirectObjectRequirement()),
+                    failed.contains(actionType.getPrepositionRequirement()),
+                    failed.contains(
+                            actionType.getIndirectObjectRequirement()));
+        }
+    }
+
+    /**
+     * @param worker that replayed chunks
+     * @return the counts of the worker.
+     * @throws IOException if the worker could not read the log
+     */
+    private static ReplaySummary.Counts getCounts(
+            Future<ReplaySummary.Counts> worker) throws IOException {
+        try {
+            return worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while replaying");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Command;
+
+import java.io.IOException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the command of each line of a {@link LineReader} to a single
+ * subscriber, parsing no more lines than the subscriber has requested.
+ * <p>
+ * Lines are parsed by whichever thread requests them. If multiple threads
+ * request or cancel at once, only one of them reads lines at a time, and it
+ * keeps going until all requests made in the meantime are met.
+ *
+ * @author Evan Quan
+ */
+final class CommandPublisher implements Flow.Publisher<Command> {
+
+    private final Parser parser;
+    private final LineReader lines;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    CommandPublisher(Parser parser, LineReader lines) {
+        this.parser = parser;
+        this.lines = lines;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Command> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(
+                    "Commands can only be published to one subscriber"));
+            return;
+        }
+        Subscription subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class Subscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Command> subscriber;
+        private final TokenStream tokens = new TokenStream();
+        /**
+         * Number of commands requested but not yet published.
+         * {@link Long#MAX_VALUE} means unbounded.
+         */
+        private final AtomicLong demand = new AtomicLong();
+        /**
+         * Number of times lines were asked to be published while they were
+         * already being published. Only the thread that increments it from 0
+         * publishes.
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable requestError;
+        /**
+         * Only accessed by the publishing thread.
+         */
+        private boolean done;
+
+        Subscription(Flow.Subscriber<? super Command> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException(
+                        "Must request a positive number of commands: " + n);
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            publish();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            publish();
+        }
+
+        private void publish() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                drain();
+            } catch (RuntimeException | Error e) {
+                // The subscriber threw. Stop publishing, and let later
+                // requests return rather than wait on this thread.
+                finish();
+                pending.set(0);
+                throw e;
+            }
+        }
+
+        /**
+         * Publish until demand is met or publishing is done, then keep going
+         * while there were more requests meanwhile.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                while (!done) {
+                    if (cancelled) {
+                        finish();
+                        break;
+                    }
+                    if (requestError != null) {
+                        finish();
+                        subscriber.onError(requestError);
+                        break;
+                    }
+                    if (demand.get() == 0) {
+                        break;
+                    }
+                    String line;
+                    try {
+                        line = lines.readLine();
+                    } catch (IOException e) {
+                        finish();
+                        subscriber.onError(e);
+                        break;
+                    }
+                    if (line == null) {
+                        finish();
+                        subscriber.onComplete();
+                        break;
+                    }
+                    Command command;
+                    try {
+                        command = parser.parse(line, tokens);
+                    } catch (RuntimeException e) {
+                        finish();
+                        subscriber.onError(e);
+                        break;
+                    }
+                    demand.getAndUpdate(d -> d == Long.MAX_VALUE ? d : d - 1);
+                    subscriber.onNext(command);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Stop publishing and close the lines, if that is not already done.
+         */
+        private void finish() {
+            if (done) {
+                return;
+            }
+            done = true;
+            try {
+                lines.close();
+            } catch (IOException ignored) {
+                // Nothing more is read, so failing to close does not
+                // affect the subscriber.
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Command;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Parses newline delimited commands from a source that may be too large to
+ * fit in memory, such as a command log. Lines are read through a fixed size
+ * buffer and parsed one at a time, so only one line is held at once.
+ * <p>
+ * Commands can either be pushed to a {@link Consumer} as fast as they are
+ * parsed, or published to a {@link Flow.Subscriber}, which only receives as
+ * many commands as it has requested.
+ *
+ * @author Evan Quan
+ */
+public final class CommandStream {
+
+    /**
+     * The default maximum number of characters in a line.
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1 << 16;
+
+    private final Parser parser;
+    private final int maxLineLength;
+
+    /**
+     * Lines longer than {@link #DEFAULT_MAX_LINE_LENGTH} cannot be parsed.
+     *
+     * @param parser to parse each line with
+     */
+    public CommandStream(Parser parser) {
+        this(parser, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * @param parser        to parse each line with
+     * @param maxLineLength maximum number of characters in a line, not
+     *                      counting the line break
+     * @throws IllegalArgumentException if maxLineLength is not positive
+     */
+    public CommandStream(Parser parser, int maxLineLength) {
+        if (maxLineLength <= 0) {
+            throw new IllegalArgumentException(
+                    "Maximum line length must be positive: " + maxLineLength);
+        }
+        this.parser = parser;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Parse each line of the reader, in order. The reader is not closed.
+     *
+     * @param reader to read lines from
+     * @param sink   to give the command of each line to
+     * @return the number of lines parsed.
+     * @throws IOException if the reader cannot be read from, or a line is
+     *                     longer than the maximum line length
+     */
+    public long parse(Reader reader, Consumer<? super Command> sink)
+            throws IOException {
+        LineReader lines = new LineReader(reader, maxLineLength);
+        TokenStream tokens = new TokenStream();
+        String line;
+        while ((line = lines.readLine()) != null) {
+            sink.accept(parser.parse(line, tokens));
+        }
+        return lines.getLineNumber();
+    }
+
+    /**
+     * Parse each line of the input stream as UTF-8, in order. The input
+     * stream is not closed.
+     *
+     * @param in   to read lines from
+     * @param sink to give the command of each line to
+     * @return the number of lines parsed.
+     * @throws IOException if the input stream cannot be read from, or a line
+     *                     is longer than the maximum line length
+     */
+    public long parse(InputStream in, Consumer<? super Command> sink)
+            throws IOException {
+        return parse(in, StandardCharsets.UTF_8, sink);
+    }
+
+    /**
+     * Parse each line of the input stream, in order. The input stream is not
+     * closed.
+     *
+     * @param in      to read lines from
+     * @param charset the input stream is encoded in
+     * @param sink    to give the command of each line to
+     * @return the number of lines parsed.
+     * @throws IOException if the input stream cannot be read from, or a line
+     *                     is longer than the maximum line length
+     */
+    public long parse(InputStream in, Charset charset,
+                      Consumer<? super Command> sink) throws IOException {
+        return parse(new InputStreamReader(in, charset), sink);
+    }
+
+    /**
+     * Parse each line of a UTF-8 file, in order.
+     *
+     * @param path of the file to read lines from
+     * @param sink to give the command of each line to
+     * @return the number of lines parsed.
+     * @throws IOException if the file cannot be read from, or a line is
+     *                     longer than the maximum line length
+     */
+    public long parse(Path path, Consumer<? super Command> sink)
+            throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            return parse(reader, sink);
+        }
+    }
+
+    /**
+     * Lines are only read and parsed once they are requested by the
+     * subscriber, on the thread that requests them. The publisher only
+     * accepts one subscriber, and closes the reader once every line has
+     * been published, reading fails, or the subscription is cancelled.
+     *
+     * @param reader to read lines from
+     * @return a publisher of the command of each line of the reader, in
+     * order.
+     */
+    public Flow.Publisher<Command> publish(Reader reader) {
+        return new CommandPublisher(parser,
+                new LineReader(reader, maxLineLength));
+    }
+
+    /**
+     * Lines are only read and parsed once they are requested by the
+     * subscriber, on the thread that requests them. The publisher only
+     * accepts one subscriber, and closes the file once every line has been
+     * published, reading fails, or the subscription is cancelled.
+     *
+     * @param path of the UTF-8 file to read lines from
+     * @return a publisher of the command of each line of the file, in order.
+     * @throws IOException if the file cannot be opened
+     */
+    public Flow.Publisher<Command> publish(Path path) throws IOException {
+        return publish(Files.newBufferedReader(path));
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.WeakInterner;
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import com.github.evanquan.parsely.words.VerbPhrase;
+
+import java.util.ArrayList;
+
+/**
+ * Replaces the phrases of parsed actions with canonical instances, so that
+ * equal phrases such as "the door" or "north" are only kept once no matter
+ * how many commands they appear in. Equal phrases of commands parsed by the
+ * same interning parser are the same instance, and can be compared by
+ * reference. Any {@link Parser} can be interned.
+ * <p>
+ * The owners of object phrases are interned too, so object phrases with
+ * equal owners share them. Phrases are forgotten once no command refers to
+ * them, so interning does not keep commands alive.
+ *
+ * @author Evan Quan
+ */
+public final class InterningParser extends Parser {
+
+    private final Parser parser;
+    private final WeakInterner<ObjectPhrase> objectPhrases =
+            new WeakInterner<>();
+    private final WeakInterner<VerbPhrase> verbPhrases =
+            new WeakInterner<>();
+
+    /**
+     * @param parser to parse inputs with before interning their phrases
+     */
+    public InterningParser(Parser parser) {
+        super(parser.getLexer());
+        this.parser = parser;
+    }
+
+    /**
+     * @return the parser that inputs are parsed with before interning their
+     * phrases.
+     */
+    public Parser getParser() {
+        return parser;
+    }
+
+    /**
+     * @return the number of canonical object phrases, including owners.
+     */
+    public int getObjectPhraseCount() {
+        return objectPhrases.size();
+    }
+
+    /**
+     * @return the number of canonical verb phrases.
+     */
+    public int getVerbPhraseCount() {
+        return verbPhrases.size();
+    }
+
+    /**
+     * @param input  to parse into words
+     * @param tokens to clear and split the input into
+     * @return the actions of the input with canonical phrases, which are
+     * immutable. Actions are only copied if they are immutable too, such as
+     * those of a {@link CachingParser}.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens) {
+        return parseActions(input, tokens, null);
+    }
+
+    /**
+     * @param input    to parse into words
+     * @param tokens   to clear and split the input into
+     * @param listener to tell how long each phase of parsing takes, or null
+     *                 if parsing is not timed
+     * @return the actions of the input with canonical phrases.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens,
+                                   ParseListener listener) {
+        ArrayList<Action> actions = parser.parseActions(input, tokens,
+                listener);
+        for (int i = 0; i < actions.size(); i++) {
+            actions.set(i, intern(actions.get(i)));
+        }
+        return actions;
+    }
+
+    /**
+     * @param action to intern the phrases of
+     * @return action with canonical phrases if it is mutable or its phrases
+     * are already canonical, otherwise an equal immutable action with
+     * canonical phrases.
+     */
+    private Action intern(Action action) {
+        VerbPhrase verbPhrase = action.getVerbPhrase();
+        if (verbPhrase != null) {
+            // Mutable verb phrases could be changed while canonical
+            verbPhrase = verbPhrases.intern(verbPhrase.toImmutable());
+        }
+        ObjectPhrase direct = intern(action.getDirectObjectPhrase());
+        ObjectPhrase indirect = intern(action.getIndirectObjectPhrase());
+        if (!action.isImmutable()) {
+            action.setVerbPhrase(verbPhrase);
+            action.setDirectObjectPhrase(direct);
+            action.setIndirectObjectPhrase(indirect);
+            return action;
+        }
+        if (verbPhrase == action.getVerbPhrase()
+                && direct == action.getDirectObjectPhrase()
+                && indirect == action.getIndirectObjectPhrase()) {
+            return action;
+        }
+        return new Action.Builder()
+                .setVerbPhrase(verbPhrase)
+                .setDirectObjectPhrase(direct)
+                .setPreposition(action.getPreposition())
+                .setIndirectObjectPhrase(indirect)
+                .build();
+    }
+
+    /**
+     * Owners are interned first, iteratively, so each object phrase is
+     * compared with canonical owners that are the same instance.
+     *
+     * @param objectPhrase to intern along with its owners
+     * @return the canonical object phrase equal to objectPhrase, or null if
+     * it is null.
+     */
+    private ObjectPhrase intern(ObjectPhrase objectPhrase) {
+        ArrayList<ObjectPhrase> owners = new ArrayList<>();
+        for (ObjectPhrase owner = objectPhrase; owner != null;
+             owner = owner.getOwner()) {
+            owners.add(owner);
+        }
+        ObjectPhrase canonical = null;
+        for (int i = owners.size() - 1; i >= 0; i--) {
+            ObjectPhrase owned = owners.get(i);
+            if (owned.getOwner() != canonical) {
+                owned = copy(owned, canonical);
+            }
+            canonical = objectPhrases.intern(owned.toImmutable());
+        }
+        return canonical;
+    }
+
+    /**
+     * @param objectPhrase to copy
+     * @param owner        to set instead of the owner of objectPhrase
+     * @return an immutable copy of objectPhrase with the specified owner.
+     */
+    private static ObjectPhrase copy(ObjectPhrase objectPhrase,
+                                     ObjectPhrase owner) {
+        ObjectPhrase.Builder builder = new ObjectPhrase.Builder()
+                .setDeterminer(objectPhrase.getDeterminer())
+                .setNoun(objectPhrase.getNoun())
+                .setPreposition(objectPhrase.getPreposition())
+                .setOwner(owner)
+                .setTruncated(objectPhrase.isTruncated());
+        for (int i = 0; i < objectPhrase.getAdjectiveCount(); i++) {
+            builder.addAdjective(objectPhrase.getAdjective(i));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Action getAction(TokenStream tokens, int start, int end) {
+        return intern(parser.getAction(tokens, start, end));
+    }
+
+    @Override
+    public ObjectPhrase getObjectPhrase(TokenStream tokens, int start,
+                                        int end) {
+        return intern(parser.getObjectPhrase(tokens, start, end));
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.words.WordClass;
+
+import java.util.ArrayList;
+
+/**
+ * Performs the lexical analysis step of a {@link Parser}, splitting an input
+ * string into tokens.
+ *
+ * @author Evan Quan
+ */
+public abstract class Lexer {
+
+    /**
+     * Splits the input string into tokens, each representing a words of the
+     * command. The tokens are in the same order as they appear in the input
+     * string. Punctuation is split into its own token by the same rules as
+     * {@link Parser#addToken(ArrayList, String)}.
+     *
+     * @param input - input String
+     * @return list of all tokens.
+     */
+    public abstract ArrayList<String> lexicalAnalysis(String input);
+
+    /**
+     * Splits the input into the same tokens as {@link
+     * #lexicalAnalysis(String)}, but as offsets into the input rather than
+     * copies of it.
+     *
+     * @param input to split
+     * @return stream of all tokens.
+     */
+    public TokenStream tokenize(CharSequence input) {
+        return tokenize(input, null);
+    }
+
+    /**
+     * Splits the input into the same tokens as {@link
+     * #tokenize(CharSequence)}, additionally classifying tokens as {@link
+     * WordClass#VERB} if they are one of the specified verbs.
+     *
+     * @param input to split
+     * @param verbs to classify tokens by, ignoring case, or null if no
+     *              verbs are known
+     * @return stream of all tokens.
+     */
+    public TokenStream tokenize(CharSequence input,
+                                CaseInsensitiveTable verbs) {
+        return tokenize(input, verbs, new TokenStream());
+    }
+
+    /**
+     * Splits the input into the same tokens as {@link
+     * #tokenize(CharSequence, CaseInsensitiveTable)}, reusing an existing
+     * stream. Any tokens already in the stream are removed first.
+     *
+     * @param input  to split
+     * @param verbs  to classify tokens by, ignoring case, or null if no
+     *               verbs are known
+     * @param tokens to clear and add the tokens of the input to
+     * @return tokens
+     */
+    public abstract TokenStream tokenize(CharSequence input,
+                                         CaseInsensitiveTable verbs,
+                                         TokenStream tokens);
+}
@@ -0,0 +1,49 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+
+/**
+ * Abstract {@link Lexer} factory.
+ *
+ * @author Evan Quan
+ */
+public final class LexerFactory {
+
+    /**
+     * Cannot instantiate.
+     */
+    private LexerFactory() {
+    }
+
+    /**
+     * @param lexerType to get
+     * @return the specified {@link Lexer}, or null if not configured
+     * correctly.
+     */
+    public static Lexer getLexer(LexerType lexerType) {
+        switch (lexerType) {
+            case SCANNER:
+                return ScannerLexer.getInstance();
+            case CHARACTER:
+                return CharacterLexer.getInstance();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param lexerType to get
+     * @param symbols   to resolve tokens to, or null if tokens are not
+     *                  resolved
+     * @return the specified {@link Lexer}, whose tokens are resolved to the
+     * canonical symbols of the {@link SymbolTable}, or null if not configured
+     * correctly.
+     */
+    public static Lexer getLexer(LexerType lexerType, SymbolTable symbols) {
+        Lexer lexer = getLexer(lexerType);
+        if (lexer == null || symbols == null) {
+            return lexer;
+        }
+        return new SymbolLexer(lexer, symbols);
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.evanquan.parsely.parser;
+
+/**
+ * Valid {@link Lexer} types. All types produce the same tokens for the same
+ * input, and only differ in how they find them.
+ *
+ * @author Evan Quan
+ */
+public enum LexerType {
+    /**
+     * Splits input with a {@link java.util.Scanner}, then splits punctuation
+     * off of each token.
+     */
+    SCANNER,
+    /**
+     * Walks the input one character at a time, splitting whitespace and
+     * punctuation in a single pass.
+     */
+    CHARACTER,
+}
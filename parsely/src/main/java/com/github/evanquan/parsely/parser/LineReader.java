@@ -0,0 +1,119 @@
+package com.github.evanquan.parsely.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads lines from a {@link Reader} through a fixed size buffer. Lines end
+ * with "\n", "\r" or "\r\n", the same as
+ * {@link java.io.BufferedReader#readLine()}, but unlike it, lines cannot be
+ * longer than a maximum length, so reading a file without line breaks does
+ * not run out of memory.
+ *
+ * @author Evan Quan
+ */
+final class LineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    /**
+     * Index of the next character to read in the buffer.
+     */
+    private int position;
+    /**
+     * Number of characters in the buffer.
+     */
+    private int limit;
+    private final StringBuilder line = new StringBuilder();
+    /**
+     * Number of lines read so far.
+     */
+    private long lineNumber;
+    /**
+     * True if the last line ended with "\r", so a following "\n" is part of
+     * the same line break.
+     */
+    private boolean skipLineFeed;
+
+    /**
+     * @param reader        to read lines from
+     * @param maxLineLength maximum number of characters in a line, not
+     *                      counting the line break
+     */
+    LineReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * @return the next line without its line break, or null if there are no
+     * more lines.
+     * @throws IOException if the reader cannot be read from, or the line is
+     *                     longer than the maximum line length
+     */
+    String readLine() throws IOException {
+        line.setLength(0);
+        boolean empty = true;
+        while (true) {
+            if (position == limit && !fill()) {
+                return empty ? null : endLine();
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            empty = false;
+            int start = position;
+            while (position < limit && buffer[position] != '\n'
+                    && buffer[position] != '\r') {
+                position++;
+            }
+            if (line.length() + position - start > maxLineLength) {
+                throw new IOException("Line " + (lineNumber + 1)
+                        + " is longer than " + maxLineLength + " characters");
+            }
+            line.append(buffer, start, position - start);
+            if (position < limit) {
+                skipLineFeed = buffer[position] == '\r';
+                position++;
+                return endLine();
+            }
+        }
+    }
+
+    /**
+     * @return the number of lines read so far.
+     */
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return true if more characters were read into the buffer, or false if
+     * the end of the reader was reached.
+     * @throws IOException if the reader cannot be read from
+     */
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private String endLine() {
+        lineNumber++;
+        return line.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Command;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses a range of inputs by splitting it in half until it is small enough
+ * to parse on one thread. Each range parsed on one thread reuses its own
+ * {@link TokenStream}, and writes its commands into the same indices as
+ * their inputs so that order is kept without merging.
+ *
+ * @author Evan Quan
+ */
+final class ParallelParseTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How many ranges per thread the inputs are split into, so that threads
+     * that finish early can steal work from the others.
+     */
+    private static final int RANGES_PER_THREAD = 8;
+
+    private final Parser parser;
+    private final String[] inputs;
+    private final Command[] commands;
+    private final int start;
+    private final int end;
+    /**
+     * Ranges at most this long are parsed without splitting.
+     */
+    private final int threshold;
+
+    /**
+     * @param parser      to parse inputs with
+     * @param inputs      to parse
+     * @param commands    to set the command of each input to, at the same
+     *                    index as the input
+     * @param parallelism number of threads the inputs are parsed by
+     */
+    ParallelParseTask(Parser parser, String[] inputs, Command[] commands,
+                      int parallelism) {
+        this(parser, inputs, commands, 0, inputs.length,
+                Math.max(1, inputs.length / (parallelism * RANGES_PER_THREAD)));
+    }
+
+    private ParallelParseTask(Parser parser, String[] inputs,
+                              Command[] commands, int start, int end,
+                              int threshold) {
+        this.parser = parser;
+        this.inputs = inputs;
+        this.commands = commands;
+        this.start = start;
+        this.end = end;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= threshold) {
+            TokenStream tokens = new TokenStream();
+            for (int i = start; i < end; i++) {
+                commands[i] = parser.parse(inputs[i], tokens);
+            }
+            return;
+        }
+        int middle = (start + end) >>> 1;
+        invokeAll(new ParallelParseTask(parser, inputs, commands, start,
+                        middle, threshold),
+                new ParallelParseTask(parser, inputs, commands, middle, end,
+                        threshold));
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.evanquan.parsely.parser;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for parsing one input into a
+ * {@link com.github.evanquan.parsely.words.Command}, recorded by
+ * {@link Parser#parse(String, TokenStream)}. The event is disabled by
+ * default, and is enabled in JFR settings by its name, {@value #NAME}.
+ * While disabled, nothing is measured.
+ *
+ * @author Evan Quan
+ */
+@Name(ParseEvent.NAME)
+@Label("Parse")
+@Category("Parsely")
+@Description("Parsing of an input into a command")
+@Enabled(false)
+public final class ParseEvent extends Event {
+
+    /**
+     * Name to enable the event by.
+     */
+    public static final String NAME = "com.github.evanquan.parsely.Parse";
+
+    /**
+     * Outcome of inputs that were parsed into at least one action.
+     */
+    public static final String PARSED = "PARSED";
+    /**
+     * Outcome of inputs that were parsed into no actions.
+     */
+    public static final String EMPTY = "EMPTY";
+    /**
+     * Outcome of inputs whose parsing threw an exception.
+     */
+    public static final String FAILED = "FAILED";
+
+    @Label("Parser")
+    @Description("Class of the parser")
+    String parser;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Token Count")
+    @Description("Number of tokens, or -1 if the input was not tokenized, "
+            + "such as when it was cached")
+    int tokenCount;
+
+    @Label("Action Count")
+    int actionCount;
+
+    @Label("Outcome")
+    String outcome;
+}
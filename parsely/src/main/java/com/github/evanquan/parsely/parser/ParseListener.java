@@ -0,0 +1,27 @@
+package com.github.evanquan.parsely.parser;
+
+/**
+ * Is told how long each {@link ParsePhase} of parsing takes, so that slow
+ * parses can be traced to the phase responsible. Listeners are called on the
+ * thread that parses, once per phase and once per parse, so they must be
+ * thread safe and should return quickly.
+ *
+ * @author Evan Quan
+ * @see TimedParser
+ * @see ParseMetrics
+ */
+public interface ParseListener {
+
+    /**
+     * @param phase that was completed
+     * @param nanos that the phase took
+     */
+    void phaseCompleted(ParsePhase phase, long nanos);
+
+    /**
+     * @param tokenCount  number of tokens the input was split into
+     * @param actionCount number of actions the input was parsed into
+     * @param nanos       that parsing took, over all phases
+     */
+    void parseCompleted(int tokenCount, int actionCount, long nanos);
+}
@@ -0,0 +1,107 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each {@link ParsePhase} and whole parse takes in
+ * histograms, along with how many tokens and actions inputs have. Recording
+ * does not lock or allocate, so the same metrics can be listened to by many
+ * parsers on many threads.
+ *
+ * @author Evan Quan
+ */
+public final class ParseMetrics implements ParseListener {
+
+    /**
+     * Nanoseconds each phase took, by ordinal.
+     */
+    private final LatencyHistogram[] phases;
+    /**
+     * Nanoseconds each parse took.
+     */
+    private final LatencyHistogram parses = new LatencyHistogram();
+    private final LongAdder tokenCount = new LongAdder();
+    private final LongAdder actionCount = new LongAdder();
+
+    public ParseMetrics() {
+        this.phases = new LatencyHistogram[ParsePhase.values().length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void phaseCompleted(ParsePhase phase, long nanos) {
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    @Override
+    public void parseCompleted(int tokenCount, int actionCount, long nanos) {
+        parses.record(nanos);
+        this.tokenCount.add(tokenCount);
+        this.actionCount.add(actionCount);
+    }
+
+    /**
+     * @param phase to get the latencies of
+     * @return the nanoseconds each parse spent in the phase.
+     */
+    public LatencyHistogram getLatencies(ParsePhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * @return the nanoseconds each parse took, over all phases.
+     */
+    public LatencyHistogram getLatencies() {
+        return parses;
+    }
+
+    /**
+     * @return the number of inputs parsed.
+     */
+    public long getParseCount() {
+        return parses.getCount();
+    }
+
+    /**
+     * @return the number of tokens over all inputs parsed.
+     */
+    public long getTokenCount() {
+        return tokenCount.sum();
+    }
+
+    /**
+     * @return the number of actions over all inputs parsed.
+     */
+    public long getActionCount() {
+        return actionCount.sum();
+    }
+
+    /**
+     * Forget everything recorded.
+     */
+    public void reset() {
+        for (LatencyHistogram phase : phases) {
+            phase.reset();
+        }
+        parses.reset();
+        tokenCount.reset();
+        actionCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ParseMetrics{parses=")
+                .append(parses)
+                .append(", tokens=").append(getTokenCount())
+                .append(", actions=").append(getActionCount());
+        for (ParsePhase phase : ParsePhase.values()) {
+            builder.append(", ").append(phase).append("={")
+                    .append(getLatencies(phase)).append('}');
+        }
+        return builder.append('}').toString();
+    }
+}
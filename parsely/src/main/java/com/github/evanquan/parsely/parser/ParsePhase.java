@@ -0,0 +1,23 @@
+package com.github.evanquan.parsely.parser;
+
+/**
+ * The phases that a {@link Parser} parses input in, in order.
+ *
+ * @author Evan Quan
+ */
+public enum ParsePhase {
+    /**
+     * Split input into tokens, classify them, and split the tokens into the
+     * segments of each action.
+     */
+    LEXICAL_ANALYSIS,
+    /**
+     * Parse each segment of tokens into an action.
+     */
+    SYNTACTICAL_ANALYSIS,
+    /**
+     * Fill in the components that actions share with their neighbours.
+     * Parsers that only parse one action skip this phase.
+     */
+    SYNTACTICAL_CLEANUP,
+}
@@ -0,0 +1,334 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CollectionUtils;
+import com.github.evanquan.parsely.util.SymbolTable;
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.CodedAction;
+import com.github.evanquan.parsely.words.Command;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parses a {@link String} into a {@link Command}.
+ *
+ * @author Evan Quan
+ */
+public abstract class Parser {
+
+    // NOTE: For now, only "," as end punctuation will count, as quotes are
+    // causing problems with syntactical analysis
+    /**
+     * Defines the type of punctuation that can exist at the start of a words
+     * that will split and count as its own token.
+     */
+    // public static final char[] START_PUNCTUATION = { '\'', '"' };
+    static final char[] START_PUNCTUATION = {};
+    /**
+     * Defines the type of punctuation that can exist at the end of a words that
+     * will split and count as its own token.
+     */
+    // public static final char[] END_PUNCTUATION = { '\'', '"', ',' };
+    static final char[] END_PUNCTUATION = {',', '.'};
+
+    public static final String[] VALID_PREPOSITIONS = {};
+
+    /**
+     * Splits input into tokens for this parser.
+     */
+    private final Lexer lexer;
+
+    /**
+     * @param lexer to split input into tokens with
+     */
+    Parser(Lexer lexer) {
+        this.lexer = lexer;
+    }
+
+    /**
+     * <b>Step 1: Lexical Analysis</b>
+     * <p>
+     * Splits the input string into tokens, each representing a words of the
+     * command. The tokens are in the same order as they appear in the input
+     * string. Each character of punctuation counts as its own token only if it
+     * is a single or double quote around a words, or a comma after a words.
+     *
+     * @param input - input String
+     * @return list of all tokens.
+     */
+    public static ArrayList<String> lexicalAnalysis(String input) {
+        // NOTE: There's probably a better way to do this that doesn't use Scanner.
+        // aka. Split by spaces, then map reduce.
+        Scanner in = new Scanner(input);
+        ArrayList<String> tokens = new ArrayList<>();
+
+        // Add all tokens
+        while (in.hasNext()) {
+            String token = in.next();
+            addToken(tokens, token);
+        }
+        in.close();
+        return tokens;
+        // Right, now just using basic split by spaces. May need to change this when
+        // things get
+        // more complicated
+        // return new ArrayList<>(Arrays.asList(input.split(" ")));
+    }
+
+    /**
+     * Splits token by punctuation and adds punctuation components to
+     * tokens.<br> - Double and single quotes at the start or end of words<br> -
+     * Commas after a words<br> - Other punctuation and symbols are stripped and
+     * ignored.
+     *
+     * @param tokens to add token to
+     * @param token to add to tokens
+     */
+    public static void addToken(ArrayList<String> tokens, String token) {
+
+        char firstChar = token.charAt(0);
+        if (CollectionUtils.contains(START_PUNCTUATION, firstChar)) {
+            tokens.add(Character.toString(firstChar));
+            token = token.substring(1);
+        }
+
+        boolean changedLastChar = false;
+        String endQuote = "";
+        char lastChar = token.charAt(token.length() - 1);
+        if (CollectionUtils.contains(END_PUNCTUATION, lastChar)) {
+            endQuote = Character.toString(lastChar);
+            token = token.substring(0, token.length() - 1);
+            changedLastChar = true;
+        }
+
+        if (!token.isEmpty()) {
+            // If the token is empty, then the token was punctuation on its own.
+            // We don't want empty tokens, as that will create take strange
+            // behaviour for parsing {@link Command} components. In other words,
+            // we don't want empty strings to become nouns, adjectives etc.
+            tokens.add(token);
+        }
+        // End quote is added after words to preserve token order
+        if (changedLastChar) {
+            tokens.add(endQuote);
+        }
+    }
+
+    /**
+     * @return the {@link Lexer} this parser splits input into tokens with.
+     */
+    public Lexer getLexer() {
+        return lexer;
+    }
+
+    /**
+     * Parse receiveInput text into words and apply their appropriate meanings
+     * and relationships. Accepts only imperative statements.
+     *
+     * @param input - String to parse into words
+     * @return command that represents the player {@link Command}
+     */
+    public Command parse(String input) {
+        return parse(input, new TokenStream());
+    }
+
+    /**
+     * Parse receiveInput text into words and apply their appropriate meanings
+     * and relationships, splitting the input into the specified tokens rather
+     * than new ones. Tokens can be reused for any number of inputs, but not
+     * by multiple threads at the same time.
+     *
+     * @param input  - String to parse into words
+     * @param tokens to clear and split the input into
+     * @return command that represents the player {@link Command}
+     */
+    public Command parse(String input, TokenStream tokens) {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        ArrayList<Action> actions = null;
+        try {
+            actions = parseActions(input, tokens);
+        } finally {
+            if (event.shouldCommit()) {
+                commit(event, input, tokens, actions);
+            }
+        }
+        return new Command(input, actions);
+    }
+
+    /**
+     * @param event   to fill in and commit
+     * @param input   that was parsed
+     * @param tokens  that input was split into, unless it was not tokenized
+     * @param actions that input was parsed into, or null if parsing threw
+     */
+    private void commit(ParseEvent event, String input, TokenStream tokens,
+                        ArrayList<Action> actions) {
+        event.parser = getClass().getSimpleName();
+        event.inputLength = input.length();
+        // Tokens are only reset to the input if it is tokenized
+        event.tokenCount = tokens.getInput() == input ? tokens.size() : -1;
+        if (actions == null) {
+            event.outcome = ParseEvent.FAILED;
+        } else {
+            event.actionCount = actions.size();
+            event.outcome = actions.isEmpty()
+                    ? ParseEvent.EMPTY : ParseEvent.PARSED;
+        }
+        event.commit();
+    }
+
+    /**
+     * Parse input into actions whose words are resolved to their ids in a
+     * lexicon, so they can be dispatched by id rather than by string. The
+     * input is parsed as by {@link #parse(String)} and each action is then
+     * coded, so this costs more than parsing alone.
+     *
+     * @param input   to parse into words
+     * @param lexicon to resolve words to ids with, and back to strings with.
+     *                Words that are not in the lexicon are
+     *                {@link SymbolTable#NO_ID}.
+     * @return all non-empty actions of the input, coded, in order.
+     */
+    public ArrayList<CodedAction> parseCoded(String input,
+                                             SymbolTable lexicon) {
+        ArrayList<Action> actions = parseActions(input, new TokenStream());
+        ArrayList<CodedAction> codedActions = new ArrayList<>(actions.size());
+        for (Action action : actions) {
+            codedActions.add(CodedAction.of(action, lexicon));
+        }
+        return codedActions;
+    }
+
+    /**
+     * Parse input into the actions of a command without creating the command,
+     * so the input does not need to be a {@link String}.
+     *
+     * @param input  to parse into words
+     * @param tokens to clear and split the input into
+     * @return all non-empty actions of the input, in order.
+     */
+    abstract ArrayList<Action> parseActions(CharSequence input,
+                                            TokenStream tokens);
+
+    /**
+     * Parse input into the actions of a command, telling a listener how long
+     * each {@link ParsePhase} takes. Parsers without phases of their own
+     * pass the listener on to the parser they decorate, and by default the
+     * listener is not told anything.
+     *
+     * @param input    to parse into words
+     * @param tokens   to clear and split the input into
+     * @param listener to tell how long each phase takes, or null if parsing
+     *                 is not timed
+     * @return all non-empty actions of the input, in order.
+     * @see TimedParser
+     */
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens,
+                                   ParseListener listener) {
+        return parseActions(input, tokens);
+    }
+
+    /**
+     * Parse many inputs, reusing the same {@link TokenStream} for each of
+     * them instead of creating a new one per input.
+     *
+     * @param inputs to parse
+     * @return commands that represent each input, in the same order as the
+     * inputs.
+     */
+    public ArrayList<Command> parseAll(List<String> inputs) {
+        ArrayList<Command> commands = new ArrayList<>(inputs.size());
+        TokenStream tokens = new TokenStream();
+        for (String input : inputs) {
+            commands.add(parse(input, tokens));
+        }
+        return commands;
+    }
+
+    /**
+     * Parse many inputs on all threads of the common {@link ForkJoinPool}.
+     *
+     * @param inputs to parse
+     * @return commands that represent each input, in the same order as the
+     * inputs.
+     */
+    public ArrayList<Command> parseAllParallel(List<String> inputs) {
+        return parseAllParallel(inputs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parse many inputs on all threads of the common {@link ForkJoinPool}.
+     *
+     * @param inputs to parse
+     * @return commands that represent each input, in the same order as the
+     * inputs.
+     */
+    public ArrayList<Command> parseAllParallel(String[] inputs) {
+        return parseAllParallel(Arrays.asList(inputs));
+    }
+
+    /**
+     * Parse many inputs on all threads of the specified {@link
+     * ForkJoinPool}. The inputs are split into ranges that are parsed in
+     * parallel, each with its own {@link TokenStream}.
+     *
+     * @param inputs to parse
+     * @param pool   to parse the inputs on
+     * @return commands that represent each input, in the same order as the
+     * inputs.
+     */
+    public ArrayList<Command> parseAllParallel(List<String> inputs,
+                                               ForkJoinPool pool) {
+        String[] inputArray = inputs.toArray(new String[0]);
+        Command[] commands = new Command[inputArray.length];
+        pool.invoke(new ParallelParseTask(this, inputArray, commands,
+                pool.getParallelism()));
+        return new ArrayList<>(Arrays.asList(commands));
+    }
+
+    /**
+     * Find an objective phrase from a list of tokens. Can be either a direct or
+     * indirect object phrase. The tokens argument is not modified.
+     *
+     * @param tokens to convert to an object phrase
+     * @return object phrase that is composed of all token components, or null
+     * if tokens is empty
+     */
+    public ObjectPhrase getObjectPhrase(ArrayList<String> tokens) {
+        return getObjectPhrase(TokenStream.of(tokens), 0, tokens.size());
+    }
+
+    /**
+     * Find an action from a range of a {@link TokenStream}, such as one
+     * segment of the tokens of {@link #parse(String, TokenStream)}. The tokens
+     * are not lexed again and the action is not cleaned up, so this only
+     * performs {@link ParsePhase#SYNTACTICAL_ANALYSIS}.
+     *
+     * @param tokens to convert to an action
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
+     * @return action that is composed of all token components in the range,
+     * which is empty if the range is empty
+     */
+    public abstract Action getAction(TokenStream tokens, int start, int end);
+
+    /**
+     * Find an objective phrase from a range of a {@link TokenStream}. Can be
+     * either a direct or indirect object phrase. Only the tokens that become
+     * part of the object phrase are copied into strings.
+     *
+     * @param tokens to convert to an object phrase
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
+     * @return object phrase that is composed of all token components in the
+     * range, or null if the range is empty
+     */
+    public abstract ObjectPhrase getObjectPhrase(TokenStream tokens, int start,
+                                                 int end);
+
+}
@@ -0,0 +1,267 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Abstract {@link Parser} factory.
+ * <p>
+ * Parsers are immutable, so the same parser is handed out for the same
+ * configuration and can be shared between threads. Configuration changes
+ * only affect parsers retrieved after the change.
+ *
+ * @author Evan Quan
+ */
+public final class ParserFactory {
+
+    /**
+     * The default maximum number of owners an object phrase can have.
+     */
+    public static final int DEFAULT_MAX_OWNER_DEPTH = 64;
+
+    /**
+     * An immutable snapshot of the action types that verb gnostic parsers
+     * recognize verbs with.
+     */
+    private static volatile Map<String, String> actionTypes =
+            Collections.emptyMap();
+
+    /**
+     * Determines how parsers split input into tokens.
+     */
+    private static volatile LexerType lexerType = LexerType.CHARACTER;
+
+    /**
+     * Determines how many owners an object phrase can have before the rest of
+     * it is ignored.
+     */
+    private static volatile int maxOwnerDepth = DEFAULT_MAX_OWNER_DEPTH;
+
+    /**
+     * Symbols that parsers resolve tokens to, or null if tokens are not
+     * resolved.
+     */
+    private static volatile SymbolTable symbols;
+
+    /**
+     * Parsers that have been created, by their configuration.
+     */
+    private static final ConcurrentHashMap<Configuration, Parser> parsers =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Cannot instantiate.
+     */
+    private ParserFactory() {
+    }
+
+    /**
+     * @param parserType to get
+     * @return the specified {@link Parser}, or null if not configured
+     * correctly.
+     */
+    public static Parser getParser(ParserType parserType) {
+        return getParser(parserType, lexerType);
+    }
+
+    /**
+     * @param parserType to get
+     * @param lexerType  of the {@link Lexer} the parser splits input with
+     * @return the specified {@link Parser}, or null if not configured
+     * correctly.
+     */
+    public static Parser getParser(ParserType parserType, LexerType lexerType) {
+        switch (parserType) {
+            case VERB_AGNOSTIC:
+                SymbolTable symbols = ParserFactory.symbols;
+                if (symbols == null) {
+                    return VerbAgnosticParser.getInstance(lexerType);
+                }
+                return getParser(new Configuration(parserType, Map.of(),
+                        lexerType, 0, symbols));
+            case VERB_GNOSTIC:
+                return getParser(new Configuration(parserType, actionTypes,
+                        lexerType, maxOwnerDepth, ParserFactory.symbols));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * If the action types or symbol table change while the parser is being
+     * added, the setter may evict stale parsers before it is added, so it is
+     * evicted here instead. Either way no stale parser is kept.
+     *
+     * @param configuration of the parser
+     * @return the parser of the configuration, which was current when the
+     * configuration was read.
+     */
+    private static Parser getParser(Configuration configuration) {
+        Parser parser = parsers.computeIfAbsent(configuration,
+                Configuration::createParser);
+        if (!configuration.isCurrent()) {
+            parsers.remove(configuration, parser);
+        }
+        return parser;
+    }
+
+    /**
+     * Evict parsers whose action types or symbol table are no longer
+     * current, as they are no longer handed out.
+     */
+    private static void evictStaleParsers() {
+        parsers.keySet().removeIf(configuration -> !configuration.isCurrent());
+    }
+
+    /**
+     * Parsers of a registry are kept by the registry rather than the
+     * factory, so they are forgotten along with the registry.
+     *
+     * @param registry of the action types whose verbs the parser recognizes
+     * @return a verb gnostic {@link Parser} that recognizes the verbs of the
+     * action types currently in the registry. Action types registered after
+     * this call are only recognized by parsers retrieved after them.
+     */
+    public static Parser getParser(ActionTypeRegistry registry) {
+        Configuration configuration = new Configuration(
+                ParserType.VERB_GNOSTIC, registry.getActionTypes(), lexerType,
+                maxOwnerDepth, symbols);
+        Map<Configuration, Parser> registryParsers = registry.getParsers();
+        Parser parser = registryParsers.computeIfAbsent(configuration,
+                Configuration::createParser);
+        if (registryParsers.size() > 1) {
+            // Parsers of previous configurations are no longer handed out.
+            registryParsers.keySet().removeIf(
+                    other -> !other.equals(configuration));
+        }
+        return parser;
+    }
+
+    /**
+     * A snapshot of the action types is taken, so later changes to actions
+     * do not affect any parsers. Null values are kept, as a verb with a null
+     * action type is still a known verb. A null verb is never matched.
+     *
+     * @param actions that parsers retrieved after this call recognize verbs
+     *                with. If null, no verbs are recognized.
+     */
+    public static void setActionTypes(HashMap<String, String> actions) {
+        Map<String, String> snapshot = actions == null
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new HashMap<>(actions));
+        if (!snapshot.equals(actionTypes)) {
+            actionTypes = snapshot;
+            evictStaleParsers();
+        }
+    }
+
+    /**
+     * @param type of {@link Lexer} that parsers retrieved after this call
+     *             split input with. Defaults to {@link LexerType#CHARACTER}.
+     */
+    public static void setLexerType(LexerType type) {
+        lexerType = type;
+    }
+
+    /**
+     * Inputs such as "the key of the door of the house of ..." make object
+     * phrases with an owner per belonging preposition. Owners beyond the
+     * maximum depth are ignored, and the object phrase is marked as
+     * {@link com.github.evanquan.parsely.words.ObjectPhrase#isTruncated()
+     * truncated}.
+     *
+     * @param depth maximum number of owners that object phrases of parsers
+     *              retrieved after this call can have. Defaults to
+     *              {@link #DEFAULT_MAX_OWNER_DEPTH}.
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public static void setMaxOwnerDepth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum owner depth cannot be negative: " + depth);
+        }
+        maxOwnerDepth = depth;
+    }
+
+    /**
+     * Known words of parsed commands, such as verbs, nouns and adjectives,
+     * are then resolved to the canonical {@link String}s of the symbol table
+     * instead of being copied from the input, so commands share them.
+     *
+     * @param table of symbols that parsers retrieved after this call resolve
+     *              tokens to. If null, tokens are not resolved.
+     */
+    public static void setSymbolTable(SymbolTable table) {
+        symbols = table;
+        evictStaleParsers();
+    }
+
+    /**
+     * Everything a {@link Parser} is created from. Equal configurations
+     * create parsers that parse identically.
+     */
+    static final class Configuration {
+
+        private final ParserType parserType;
+        private final Map<String, ?> actionTypes;
+        private final LexerType lexerType;
+        private final int maxOwnerDepth;
+        private final SymbolTable symbols;
+
+        Configuration(ParserType parserType, Map<String, ?> actionTypes,
+                      LexerType lexerType, int maxOwnerDepth,
+                      SymbolTable symbols) {
+            this.parserType = parserType;
+            this.actionTypes = actionTypes;
+            this.lexerType = lexerType;
+            this.maxOwnerDepth = maxOwnerDepth;
+            this.symbols = symbols;
+        }
+
+        /**
+         * @return true if the action types, for verb gnostic parsers, and
+         * the symbol table are those currently set in the factory.
+         */
+        boolean isCurrent() {
+            return (parserType != ParserType.VERB_GNOSTIC
+                    || actionTypes == ParserFactory.actionTypes)
+                    && symbols == ParserFactory.symbols;
+        }
+
+        Parser createParser() {
+            Lexer lexer = LexerFactory.getLexer(lexerType, symbols);
+            if (parserType == ParserType.VERB_AGNOSTIC) {
+                return new VerbAgnosticParser(lexer);
+            }
+            return new VerbGnosticParser(actionTypes, lexer, maxOwnerDepth);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof Configuration) {
+                Configuration configuration = (Configuration) other;
+                // Action types and symbols are compared by identity as there
+                // is only one of each at a time.
+                return parserType == configuration.parserType
+                        && actionTypes == configuration.actionTypes
+                        && lexerType == configuration.lexerType
+                        && maxOwnerDepth == configuration.maxOwnerDepth
+                        && symbols == configuration.symbols;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = parserType.hashCode();
+            hash = 31 * hash + System.identityHashCode(actionTypes);
+            hash = 31 * hash + lexerType.hashCode();
+            hash = 31 * hash + maxOwnerDepth;
+            return 31 * hash + System.identityHashCode(symbols);
+        }
+    }
+}
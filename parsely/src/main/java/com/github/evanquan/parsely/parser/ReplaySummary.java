@@ -0,0 +1,231 @@
+package com.github.evanquan.parsely.parser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What was found by replaying a command log with a {@link
+ * CommandLogReplayer}.
+ *
+ * @author Evan Quan
+ */
+public final class ReplaySummary {
+
+    /**
+     * Commands with at least this many actions are counted together.
+     */
+    public static final int MAX_ACTIONS_PER_COMMAND = 16;
+
+    private final long commands;
+    private final long actions;
+    private final long[] commandsByActions;
+    private final long actionsWithoutVerb;
+    private final Map<String, Long> unknownVerbs;
+    private final long invalidActions;
+    private final long failedDirectObjectRequirements;
+    private final long failedPrepositionRequirements;
+    private final long failedIndirectObjectRequirements;
+
+    private ReplaySummary(Counts counts) {
+        this.commands = counts.commands;
+        this.actions = counts.actions;
+        this.commandsByActions = counts.commandsByActions.clone();
+        this.actionsWithoutVerb = counts.actionsWithoutVerb;
+        this.unknownVerbs = Collections.unmodifiableMap(
+                new TreeMap<>(counts.unknownVerbs));
+        this.invalidActions = counts.invalidActions;
+        this.failedDirectObjectRequirements =
+                counts.failedDirectObjectRequirements;
+        this.failedPrepositionRequirements =
+                counts.failedPrepositionRequirements;
+        this.failedIndirectObjectRequirements =
+                counts.failedIndirectObjectRequirements;
+    }
+
+    /**
+     * @return the number of commands, one per line.
+     */
+    public long getCommands() {
+        return commands;
+    }
+
+    /**
+     * @return the number of actions of all commands.
+     */
+    public long getActions() {
+        return actions;
+    }
+
+    /**
+     * @param actions per command. Commands with {@link
+     *                #MAX_ACTIONS_PER_COMMAND} or more actions are counted
+     *                together.
+     * @return the number of commands with the specified number of actions.
+     */
+    public long getCommandsWithActions(int actions) {
+        return commandsByActions[Math.min(actions, MAX_ACTIONS_PER_COMMAND)];
+    }
+
+    /**
+     * @return the number of actions that have no verb.
+     */
+    public long getActionsWithoutVerb() {
+        return actionsWithoutVerb;
+    }
+
+    /**
+     * @return how many actions have each verb that is not one of the
+     * replayer's action types, by lower case verb. Empty if the replayer has
+     * no action types.
+     */
+    public Map<String, Long> getUnknownVerbs() {
+        return unknownVerbs;
+    }
+
+    /**
+     * @return the number of actions that failed at least one of the
+     * requirements of their {@link ActionType}.
+     */
+    public long getInvalidActions() {
+        return invalidActions;
+    }
+
+    /**
+     * @return the number of actions that failed their {@link ActionType}'s
+     * direct object phrase requirement.
+     */
+    public long getFailedDirectObjectRequirements() {
+        return failedDirectObjectRequirements;
+    }
+
+    /**
+     * @return the number of actions that failed their {@link ActionType}'s
+     * preposition requirement.
+     */
+    public long getFailedPrepositionRequirements() {
+        return failedPrepositionRequirements;
+    }
+
+    /**
+     * @return the number of actions that failed their {@link ActionType}'s
+     * indirect object phrase requirement.
+     */
+    public long getFailedIndirectObjectRequirements() {
+        return failedIndirectObjectRequirements;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("commands: ").append(commands).append('\n');
+        builder.append("actions: ").append(actions).append('\n');
+        builder.append("actions per command:\n");
+        for (int i = 0; i <= MAX_ACTIONS_PER_COMMAND; i++) {
+            if (commandsByActions[i] != 0) {
+                builder.append('\t').append(i)
+                        .append(i == MAX_ACTIONS_PER_COMMAND ? "+" : "")
+                        .append(": ").append(commandsByActions[i])
+                        .append('\n');
+            }
+        }
+        builder.append("actions without verb: ").append(actionsWithoutVerb)
+                .append('\n');
+        builder.append("unknown verbs:\n");
+        for (Map.Entry<String, Long> entry : unknownVerbs.entrySet()) {
+            builder.append('\t').append(entry.getKey()).append(": ")
+                    .append(entry.getValue()).append('\n');
+        }
+        builder.append("invalid actions: ").append(invalidActions)
+                .append('\n');
+        builder.append("\tdirect object phrase: ")
+                .append(failedDirectObjectRequirements).append('\n');
+        builder.append("\tpreposition: ")
+                .append(failedPrepositionRequirements).append('\n');
+        builder.append("\tindirect object phrase: ")
+                .append(failedIndirectObjectRequirements).append('\n');
+        return builder.toString();
+    }
+
+    /**
+     * Counts collected by one thread, which are added together for the
+     * summary.
+     */
+    static final class Counts {
+
+        private long commands;
+        private long actions;
+        private final long[] commandsByActions =
+                new long[MAX_ACTIONS_PER_COMMAND + 1];
+        private long actionsWithoutVerb;
+        private final HashMap<String, Long> unknownVerbs = new HashMap<>();
+        private long invalidActions;
+        private long failedDirectObjectRequirements;
+        private long failedPrepositionRequirements;
+        private long failedIndirectObjectRequirements;
+
+        /**
+         * @param actions of a command
+         */
+        void addCommand(int actions) {
+            commands++;
+            this.actions += actions;
+            commandsByActions[Math.min(actions, MAX_ACTIONS_PER_COMMAND)]++;
+        }
+
+        void addActionWithoutVerb() {
+            actionsWithoutVerb++;
+        }
+
+        /**
+         * @param verb that is not known, in lower case
+         */
+        void addUnknownVerb(String verb) {
+            unknownVerbs.merge(verb, 1L, Long::sum);
+        }
+
+        /**
+         * @param directObject   true if the direct object phrase requirement
+         *                       failed
+         * @param preposition    true if the preposition requirement failed
+         * @param indirectObject true if the indirect object phrase
+         *                       requirement failed
+         */
+        void addInvalidAction(boolean directObject, boolean preposition,
+                              boolean indirectObject) {
+            invalidActions++;
+            failedDirectObjectRequirements += directObject ? 1 : 0;
+            failedPrepositionRequirements += preposition ? 1 : 0;
+            failedIndirectObjectRequirements += indirectObject ? 1 : 0;
+        }
+
+        /**
+         * @param other counts to add to these counts
+         */
+        void add(Counts other) {
+            commands += other.commands;
+            actions += other.actions;
+            Arrays.setAll(commandsByActions,
+                    i -> commandsByActions[i] + other.commandsByActions[i]);
+            actionsWithoutVerb += other.actionsWithoutVerb;
+            other.unknownVerbs.forEach(
+                    (verb, count) -> unknownVerbs.merge(verb, count, Long::sum));
+            invalidActions += other.invalidActions;
+            failedDirectObjectRequirements +=
+                    other.failedDirectObjectRequirements;
+            failedPrepositionRequirements +=
+                    other.failedPrepositionRequirements;
+            failedIndirectObjectRequirements +=
+                    other.failedIndirectObjectRequirements;
+        }
+
+        /**
+         * @return a summary of these counts.
+         */
+        ReplaySummary toSummary() {
+            return new ReplaySummary(this);
+        }
+    }
+}
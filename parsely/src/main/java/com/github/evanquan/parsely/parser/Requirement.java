@@ -6,17 +6,29 @@ import com.github.evanquan.parsely.words.Action;
 import java.util.ArrayList;
 
 /**
+ * A requirement of an {@link ActionType} that an {@link Action} must meet to
+ * be valid. If all of the conditions are met, the action must meet one
+ * condition, otherwise it must meet a default condition.
+ *
  * @author Evan Quan
  */
-class Requirement {
+public class Requirement {
 
     private Condition conditionIfConditionsMet;
     private ArrayList<Condition> conditions;
     private Condition conditionDefault;
 
-    Requirement(Condition conditionIfConditionsMet,
-                ArrayList<Condition> conditions,
-                Condition conditionDefault) {
+    /**
+     * @param conditionIfConditionsMet that actions must meet if they meet
+     *                                 all of the conditions
+     * @param conditions               that decide which condition actions
+     *                                 must meet
+     * @param conditionDefault         that actions must meet if they do not
+     *                                 meet all of the conditions
+     */
+    public Requirement(Condition conditionIfConditionsMet,
+                       ArrayList<Condition> conditions,
+                       Condition conditionDefault) {
         this.conditionIfConditionsMet = conditionIfConditionsMet;
         this.conditions = conditions;
         this.conditionDefault = conditionDefault;
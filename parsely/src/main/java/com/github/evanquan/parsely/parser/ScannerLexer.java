@@ -0,0 +1,47 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+
+import java.util.ArrayList;
+
+/**
+ * Splits input into tokens with {@link Parser#lexicalAnalysis(String)}.
+ *
+ * @author Evan Quan
+ */
+final class ScannerLexer extends Lexer {
+
+    private static final ScannerLexer instance = new ScannerLexer();
+
+    private ScannerLexer() {
+    }
+
+    /**
+     * Can only be instantiated by {@link LexerFactory}
+     */
+    static ScannerLexer getInstance() {
+        return instance;
+    }
+
+    @Override
+    public ArrayList<String> lexicalAnalysis(String input) {
+        return Parser.lexicalAnalysis(input);
+    }
+
+    /**
+     * {@link java.util.Scanner} does not report where tokens are, so the
+     * tokens are offsets into a new input made of the tokens themselves.
+     *
+     * @param input  to split
+     * @param verbs  to classify tokens by, or null if no verbs are known
+     * @param tokens to clear and add the tokens of the input to
+     * @return tokens
+     */
+    @Override
+    public TokenStream tokenize(CharSequence input,
+                                CaseInsensitiveTable verbs,
+                                TokenStream tokens) {
+        tokens.reset(Parser.lexicalAnalysis(input.toString()), verbs);
+        return tokens;
+    }
+}
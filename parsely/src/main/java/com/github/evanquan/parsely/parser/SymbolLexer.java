@@ -0,0 +1,50 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.util.SymbolTable;
+
+import java.util.ArrayList;
+
+/**
+ * Splits input into the same tokens as another {@link Lexer}, but resolves
+ * tokens that are symbols of a {@link SymbolTable} to their canonical
+ * {@link String}s. Commands kept for a long time then share one copy of each
+ * known word, rather than one copy per occurrence.
+ *
+ * @author Evan Quan
+ */
+final class SymbolLexer extends Lexer {
+
+    private final Lexer lexer;
+    private final SymbolTable symbols;
+
+    /**
+     * Can only be instantiated by {@link LexerFactory}
+     */
+    SymbolLexer(Lexer lexer, SymbolTable symbols) {
+        this.lexer = lexer;
+        this.symbols = symbols;
+    }
+
+    @Override
+    public ArrayList<String> lexicalAnalysis(String input) {
+        ArrayList<String> tokens = lexer.lexicalAnalysis(input);
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            int id = symbols.getId(token);
+            if (id != SymbolTable.NO_ID) {
+                tokens.set(i, symbols.getSymbol(id));
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public TokenStream tokenize(CharSequence input,
+                                CaseInsensitiveTable verbs,
+                                TokenStream tokens) {
+        lexer.tokenize(input, verbs, tokens);
+        tokens.setSymbols(symbols);
+        return tokens;
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Times each {@link ParsePhase} of the parses of another {@link Parser} and
+ * tells a {@link ParseListener}. Only parses through this parser are timed,
+ * so parsers from {@link ParserFactory}, which are shared, can be timed by
+ * one caller without timing the parses of every other caller.
+ * <p>
+ * If the parser is itself a decorator, such as a {@link CachingParser}, the
+ * phases of the parser it decorates are timed.
+ *
+ * @author Evan Quan
+ */
+public final class TimedParser extends Parser {
+
+    private final Parser parser;
+    private final ParseListener listener;
+
+    /**
+     * @param parser   to time the parses of
+     * @param listener to tell how long each phase of parsing takes
+     */
+    public TimedParser(Parser parser, ParseListener listener) {
+        super(parser.getLexer());
+        this.parser = parser;
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * @return the parser whose parses are timed.
+     */
+    public Parser getParser() {
+        return parser;
+    }
+
+    /**
+     * @return the listener that is told how long each phase of parsing
+     * takes.
+     */
+    public ParseListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @param input  to parse into words
+     * @param tokens to clear and split the input into
+     * @return all non-empty actions of the input, in order.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens) {
+        return parser.parseActions(input, tokens, listener);
+    }
+
+    /**
+     * @param input    to parse into words
+     * @param tokens   to clear and split the input into
+     * @param listener ignored, as the phases are told to the listener of
+     *                 this parser
+     * @return all non-empty actions of the input, in order.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens,
+                                   ParseListener listener) {
+        return parseActions(input, tokens);
+    }
+
+    @Override
+    public Action getAction(TokenStream tokens, int start, int end) {
+        return parser.getAction(tokens, start, end);
+    }
+
+    @Override
+    public ObjectPhrase getObjectPhrase(TokenStream tokens, int start,
+                                        int end) {
+        return parser.getObjectPhrase(tokens, start, end);
+    }
+}
@@ -0,0 +1,370 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.util.SymbolTable;
+import com.github.evanquan.parsely.words.Word;
+import com.github.evanquan.parsely.words.WordClass;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The tokens found by a {@link Lexer}, stored as the start and end offsets of
+ * each token in the input rather than as separate strings. Tokens can be
+ * inspected as {@link CharSequence} views of the input, and are only copied
+ * into {@link String}s when {@link #getString(int)} is called.
+ * <p>
+ * Each token is classified by its {@link WordClass} as it is added, so
+ * parsers can ask what kind of word a token is with a bit test instead of
+ * looking the token up again.
+ * <p>
+ * Tokens that are {@link WordClass#ACTION_SEPARATOR}s split the stream into
+ * segments, one per action. Segment boundaries are recorded as the tokens
+ * are added, so finding the actions of a command does not need another pass
+ * over the tokens.
+ * <p>
+ * If the stream has a {@link SymbolTable}, tokens that are symbols are
+ * copied as their canonical symbol, so every occurrence of a known word
+ * shares one {@link String}.
+ *
+ * @author Evan Quan
+ */
+public final class TokenStream {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The text that all tokens are offsets into.
+     */
+    private CharSequence input;
+    /**
+     * The start (inclusive) of token i is at index 2i, and its end
+     * (exclusive) is at index 2i + 1.
+     */
+    private int[] offsets;
+    /**
+     * The {@link WordClass} flags of the token at the same index.
+     */
+    private int[] wordClasses;
+    /**
+     * Number of tokens.
+     */
+    private int size;
+    /**
+     * Indices of every {@link WordClass#ACTION_SEPARATOR} token, in order.
+     */
+    private int[] separators;
+    /**
+     * Number of action separator tokens.
+     */
+    private int separatorCount;
+    /**
+     * Verbs that tokens are classified as {@link WordClass#VERB} by, or null
+     * if no verbs are known.
+     */
+    private CaseInsensitiveTable verbs;
+    /**
+     * Symbols that tokens are resolved to when copied, or null if tokens are
+     * always copied from the input.
+     */
+    private SymbolTable symbols;
+
+    /**
+     * Creates an empty token stream over empty input.
+     */
+    public TokenStream() {
+        this.input = "";
+        this.offsets = new int[DEFAULT_CAPACITY * 2];
+        this.wordClasses = new int[DEFAULT_CAPACITY];
+        this.separators = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a token stream from already split tokens. As the tokens do not
+     * share an input, they are joined by spaces to create one.
+     *
+     * @param tokens to create the stream from
+     * @return a token stream where each token is equal to the token at the
+     * same index of tokens.
+     */
+    public static TokenStream of(List<String> tokens) {
+        return of(tokens, null);
+    }
+
+    /**
+     * Creates a token stream from already split tokens. As the tokens do not
+     * share an input, they are joined by spaces to create one.
+     *
+     * @param tokens to create the stream from
+     * @param verbs  to classify tokens as {@link WordClass#VERB} by, or null
+     *               if no verbs are known
+     * @return a token stream where each token is equal to the token at the
+     * same index of tokens.
+     */
+    static TokenStream of(List<String> tokens, CaseInsensitiveTable verbs) {
+        TokenStream stream = new TokenStream();
+        stream.reset(tokens, verbs);
+        return stream;
+    }
+
+    /**
+     * Remove all tokens and replace them with already split tokens. As the
+     * tokens do not share an input, they are joined by spaces to create one.
+     *
+     * @param tokens to set
+     * @param verbs  to classify tokens as {@link WordClass#VERB} by, or null
+     *               if no verbs are known
+     */
+    void reset(List<String> tokens, CaseInsensitiveTable verbs) {
+        StringBuilder input = new StringBuilder();
+        int[] offsets = new int[tokens.size() * 2];
+        for (int i = 0; i < tokens.size(); i++) {
+            if (i > 0) {
+                input.append(' ');
+            }
+            offsets[2 * i] = input.length();
+            input.append(tokens.get(i));
+            offsets[2 * i + 1] = input.length();
+        }
+        reset(input.toString(), verbs);
+        for (int i = 0; i < tokens.size(); i++) {
+            add(offsets[2 * i], offsets[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Remove all tokens and set the input that future tokens are offsets
+     * into.
+     *
+     * @param input to set
+     * @param verbs to classify tokens as {@link WordClass#VERB} by, or null
+     *              if no verbs are known
+     */
+    void reset(CharSequence input, CaseInsensitiveTable verbs) {
+        this.input = input;
+        this.verbs = verbs;
+        this.symbols = null;
+        this.size = 0;
+        this.separatorCount = 0;
+    }
+
+    /**
+     * @param symbols to resolve tokens to when they are copied, or null if
+     *                tokens are always copied from the input. This is cleared
+     *                when the stream is reset.
+     */
+    void setSymbols(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Add the token input[start, end) to the end of the stream and classify
+     * it.
+     *
+     * @param start of the token, inclusive
+     * @param end   of the token, exclusive
+     */
+    void add(int start, int end) {
+        if (size == wordClasses.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            wordClasses = Arrays.copyOf(wordClasses, wordClasses.length * 2);
+        }
+        offsets[2 * size] = start;
+        offsets[2 * size + 1] = end;
+        int wordClass = Word.getWordClass(input, start, end);
+        if (verbs != null && verbs.contains(input, start, end)) {
+            wordClass |= WordClass.VERB;
+        }
+        wordClasses[size] = wordClass;
+        if ((wordClass & WordClass.ACTION_SEPARATOR) != 0) {
+            if (separatorCount == separators.length) {
+                separators = Arrays.copyOf(separators, separators.length * 2);
+            }
+            separators[separatorCount++] = size;
+        }
+        size++;
+    }
+
+    /**
+     * @return the text that all tokens are offsets into.
+     */
+    public CharSequence getInput() {
+        return input;
+    }
+
+    /**
+     * @return the number of tokens.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no tokens.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index of token
+     * @return the offset into the input where the token starts, inclusive.
+     */
+    public int getStart(int index) {
+        return offsets[2 * Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index of token
+     * @return the offset into the input where the token ends, exclusive.
+     */
+    public int getEnd(int index) {
+        return offsets[2 * Objects.checkIndex(index, size) + 1];
+    }
+
+    /**
+     * @param index of token
+     * @return the number of characters in the token.
+     */
+    public int getLength(int index) {
+        return getEnd(index) - getStart(index);
+    }
+
+    /**
+     * @param index of token
+     * @return the {@link WordClass} flags of the token.
+     */
+    public int getWordClass(int index) {
+        return wordClasses[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index     of token
+     * @param wordClass flags to check
+     * @return true if the token belongs to any of the {@link WordClass}es.
+     */
+    public boolean is(int index, int wordClass) {
+        return (getWordClass(index) & wordClass) != 0;
+    }
+
+    /**
+     * @return the number of segments that the action separators split the
+     * tokens into. This is always one more than the number of separators, so
+     * segments may be empty.
+     */
+    public int getSegmentCount() {
+        return separatorCount + 1;
+    }
+
+    /**
+     * @param segment index
+     * @return the index of the first token of the segment, inclusive.
+     */
+    public int getSegmentStart(int segment) {
+        Objects.checkIndex(segment, getSegmentCount());
+        return segment == 0 ? 0 : separators[segment - 1] + 1;
+    }
+
+    /**
+     * @param segment index
+     * @return the index of the last token of the segment, exclusive. This is
+     * the index of the separator that ends the segment, if any.
+     */
+    public int getSegmentEnd(int segment) {
+        Objects.checkIndex(segment, getSegmentCount());
+        return segment == separatorCount ? size : separators[segment];
+    }
+
+    /**
+     * @param index of token
+     * @return a view of the token's characters in the input. No characters
+     * are copied.
+     */
+    public CharSequence get(int index) {
+        return new Token(input, getStart(index), getEnd(index));
+    }
+
+    /**
+     * @param index of token
+     * @return the id of the token in the stream's {@link SymbolTable}, or
+     * {@link SymbolTable#NO_ID} if it is not a symbol or the stream has no
+     * symbol table.
+     */
+    public int getSymbolId(int index) {
+        int start = getStart(index);
+        return symbols == null ? SymbolTable.NO_ID
+                : symbols.getId(input, start, getEnd(index));
+    }
+
+    /**
+     * @param index of token
+     * @return a copy of the token's characters, or the canonical symbol equal
+     * to the token if the stream's {@link SymbolTable} has one.
+     */
+    public String getString(int index) {
+        int start = getStart(index);
+        int end = getEnd(index);
+        if (symbols != null) {
+            return symbols.intern(input, start, end);
+        }
+        if (input instanceof String) {
+            return ((String) input).substring(start, end);
+        }
+        return input.subSequence(start, end).toString();
+    }
+
+    /**
+     * @return a copy of every token, in order.
+     */
+    public ArrayList<String> toList() {
+        ArrayList<String> tokens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tokens.add(getString(i));
+        }
+        return tokens;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * A view of a range of characters of the input.
+     */
+    private static final class Token implements CharSequence {
+
+        private final CharSequence input;
+        private final int start;
+        private final int end;
+
+        Token(CharSequence input, int start, int end) {
+            this.input = input;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return input.charAt(start + Objects.checkIndex(index, length()));
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length());
+            return new Token(input, this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return input.subSequence(start, end).toString();
+        }
+    }
+}
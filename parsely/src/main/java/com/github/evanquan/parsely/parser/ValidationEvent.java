@@ -0,0 +1,54 @@
+package com.github.evanquan.parsely.parser;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for checking an
+ * {@link com.github.evanquan.parsely.words.Action} against the requirements
+ * of its {@link ActionType}, recorded by
+ * {@link ActionType#checkForValidity}. The event is disabled by default, and
+ * is enabled in JFR settings by its name, {@value #NAME}. While disabled,
+ * nothing is measured.
+ *
+ * @author Evan Quan
+ */
+@Name(ValidationEvent.NAME)
+@Label("Validation")
+@Category("Parsely")
+@Description("Check of an action against the requirements of its type")
+@Enabled(false)
+public final class ValidationEvent extends Event {
+
+    /**
+     * Name to enable the event by.
+     */
+    public static final String NAME = "com.github.evanquan.parsely.Validation";
+
+    /**
+     * Outcome of actions that met all requirements.
+     */
+    public static final String VALID = "VALID";
+    /**
+     * Outcome of actions that did not meet some requirements.
+     */
+    public static final String INVALID = "INVALID";
+
+    @Label("Action Type")
+    @Description("Primary verb of the action type")
+    String actionType;
+
+    @Label("Verb")
+    @Description("Verb of the action, or null if it has none")
+    String verb;
+
+    @Label("Failed Requirement Count")
+    int failedRequirementCount;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -3,6 +3,7 @@ package com.github.evanquan.parsely.parser;
 import com.github.evanquan.parsely.words.*;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 
 /**
  * Parses a {@link String} into a {@link Command}. The parser abides by the
@@ -40,56 +41,86 @@ import java.util.ArrayList;
  */
 class VerbAgnosticParser extends Parser {
 
-    private static VerbAgnosticParser instance = null;
-    private VerbAgnosticParser() {
+    /**
+     * As this parser has no configuration, there only needs to be one
+     * instance for each type of {@link Lexer}. They are all created when the
+     * class is initialized and never modified afterwards, so they can be
+     * read from any thread without locking.
+     */
+    private static final EnumMap<LexerType, VerbAgnosticParser> instances =
+            new EnumMap<>(LexerType.class);
+
+    static {
+        for (LexerType lexerType : LexerType.values()) {
+            instances.put(lexerType,
+                    new VerbAgnosticParser(LexerFactory.getLexer(lexerType)));
+        }
+    }
+
+    /**
+     * Can only be instantiated by {@link ParserFactory}, for lexers other
+     * than the shared instance of each type.
+     *
+     * @param lexer to split input into tokens with
+     */
+    VerbAgnosticParser(Lexer lexer) {
+        super(lexer);
     }
 
     /**
      * Can only be instantiated by {@link ParserFactory}
+     *
+     * @param lexerType to split input into tokens with
      */
-    static VerbAgnosticParser getInstance() {
-        if (instance == null) {
-            instance = new VerbAgnosticParser();
-        }
-        return instance;
+    static VerbAgnosticParser getInstance(LexerType lexerType) {
+        return instances.get(lexerType);
     }
 
     /**
-     * Find an objective phrase from a list of tokens. Can be either a direct or
-     * indirect object phrase. This modifies the tokens argument (may be changed
-     * later if needed).
+     * Find an objective phrase from a range of tokens. Can be either a direct
+     * or indirect object phrase.
      *
      * @param tokens to convert to an object phrase
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
      * @return object phrase that is composed of all token components, or null
-     * if tokens is empty
+     * if the range is empty
      */
     @Override
-    public ObjectPhrase getObjectPhrase(ArrayList<String> tokens) {
-        if (tokens.isEmpty()) {
+    public ObjectPhrase getObjectPhrase(TokenStream tokens, int start,
+                                        int end) {
+        if (start >= end) {
             return null;
         }
         ObjectPhrase objectPhrase = new ObjectPhrase();
-        // Scan for an determiner. If one is found, remove it and parse the
+        // Scan for an determiner. If one is found, skip it and parse the
         // rest of the receiveInput.
         // NOTE: The preposition must be the first words in the list for it to
         // make sense grammatically. If a determiner is preceded with another
         // words, be it another determiner or not, it will be counted as an
         // adjective.
-        if (Word.isDeterminer(tokens.get(0))) {
-            objectPhrase.setDeterminer(tokens.remove(0));
+        if (tokens.is(start, WordClass.DETERMINER)) {
+            objectPhrase.setDeterminer(tokens.getString(start));
+            start++;
         }
-        // The last words in the receiveInput is the object. Remove it and parse the
-        // rest of the receiveInput.
-        if (!tokens.isEmpty()) {
+        // The last words in the receiveInput is the object. Skip it and parse
+        // the rest of the receiveInput.
+        if (start < end) {
             // If no more tokens remain, then the last words is not a noun
-            objectPhrase.setNoun(tokens.remove(tokens.size() - 1));
+            end--;
+            objectPhrase.setNoun(tokens.getString(end));
         }
         // If any receiveInput remains, they are adjectives which modify the object.
         // TODO: This WILL need to change once multiple {@link Command}s separated by commas
         // with a
         // single verb is implemented. Either here, or in syntactical analysis.
-        ArrayList<String> adjectives = new ArrayList<>(tokens);
-        objectPhrase.setAdjectives(adjectives);
+        if (start < end) {
+            ArrayList<String> adjectives = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                adjectives.add(tokens.getString(i));
+            }
+            objectPhrase.setAdjectives(adjectives);
+        }
         return objectPhrase;
     }
 
@@ -97,17 +128,45 @@ class VerbAgnosticParser extends Parser {
      * Parse receiveInput text into words and apply their appropriate meanings
      * and relationships. Accepts only imperative statements.
      *
-     * @param input - String to parse into words
-     * @return command that represents the player {@link Command}
+     * @param input  to parse into words
+     * @param tokens to clear and split the input into
+     * @return the action of the input, or no actions if it is empty.
      */
     @Override
-    public Command parse(String input) {
-        // Add unaltered receiveInput to Command
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens) {
+        return parseActions(input, tokens, null);
+    }
+
+    /**
+     * @param input    to parse into words
+     * @param tokens   to clear and split the input into
+     * @param listener to tell how long each phase takes, or null if parsing
+     *                 is not timed
+     * @return all non-empty actions of the input, in order.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens,
+                                   ParseListener listener) {
+        long start = listener == null ? 0 : System.nanoTime();
+
         // https://groups.google.com/forum/#!topic/rec.arts.int-fiction/VpsWZdWRnlA
-        ArrayList<String> tokens = lexicalAnalysis(input);
-        Action action = syntacticalAnalysis(tokens);
+        getLexer().tokenize(input, null, tokens);
+        long lexed = listener == null ? 0 : System.nanoTime();
+        Action action = getAction(tokens, 0, tokens.size());
 
-        return new Command(input, action);
+        ArrayList<Action> actions = new ArrayList<>(1);
+        if (!action.isEmpty()) {
+            actions.add(action);
+        }
+
+        if (listener != null) {
+            long end = System.nanoTime();
+            listener.phaseCompleted(ParsePhase.LEXICAL_ANALYSIS, lexed - start);
+            listener.phaseCompleted(ParsePhase.SYNTACTICAL_ANALYSIS,
+                    end - lexed);
+            listener.parseCompleted(tokens.size(), actions.size(), end - start);
+        }
+        return actions;
     }
 
     /**
@@ -131,12 +190,15 @@ class VerbAgnosticParser extends Parser {
      * is known.
      *
      * @param tokens to parse for actions
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
      * @return action parsed from tokens
      */
-    private Action syntacticalAnalysis(ArrayList<String> tokens) {
+    @Override
+    public Action getAction(TokenStream tokens, int start, int end) {
 
         Action action = new Action();
-        if (tokens.isEmpty()) {
+        if (start >= end) {
             // This happens when the player receiveInput an empty string
             return action;
         }
@@ -144,45 +206,35 @@ class VerbAgnosticParser extends Parser {
         //  part a loop for
         // every separator section
 
-
-        String first = tokens.get(0);
-        if (!Word.isDeterminer(first) && !Word.isObjectPhraseSeparatingPreposition(first)) {
-            // 0. The first words is a verb. Remove it and parse the rest of the receiveInput.
+        if (!tokens.is(start, WordClass.DETERMINER
+                | WordClass.OBJECT_PHRASE_SEPARATING_PREPOSITION)) {
+            // 0. The first words is a verb. Skip it and parse the rest of the receiveInput.
             // No adverbs are allowed as it would not be possible to distinguish between the
             // end of the verb phrase and the start of the proceeding indirect/direct object
             // phrase without a dictionary of all possible verbs.
-            tokens.remove(0);
-            action.setVerbPhrase(new VerbPhrase(first));
+            action.setVerbPhrase(new VerbPhrase(tokens.getString(start)));
+            start++;
         }
-        // 1. Scan for a preposition. If one is found, remove it. Parse the receiveInput
+        // 1. Scan for a preposition. If one is found, store it. Parse the receiveInput
         // preceding the preposition as a direct object phrase. Parse the receiveInput
         // following the preposition as an indirect object phrase.
         // For the sake of how the Command will be parsed in the game, the
         // preposition
         // is added to the indirect object phrase.
 
-        // Add first tokens before preposition (if any) to direct tokens.
-        // If there is a preposition, store it by itself.
-        ArrayList<String> directTokens = new ArrayList<>();
+        // Tokens before preposition (if any) are direct tokens.
         int i;
-        for (i = 0; i < tokens.size(); i++) {
-            String token = tokens.get(i);
-            if (Word.isObjectPhraseSeparatingPreposition(token)) {
-                action.setPreposition(token);
+        for (i = start; i < end; i++) {
+            if (tokens.is(i, WordClass.OBJECT_PHRASE_SEPARATING_PREPOSITION)) {
+                action.setPreposition(tokens.getString(i));
                 break;
-            } else {
-                directTokens.add(token);
             }
         }
-        // Add remaining tokens after preposition (if any) to indirect tokens.
-        ArrayList<String> indirectTokens = new ArrayList<>();
-        for (i++; i < tokens.size(); i++) {
-            indirectTokens.add(tokens.get(i));
-        }
 
-        // Create the object phrases from the token lists
-        action.setDirectObjectPhrase(getObjectPhrase(directTokens));
-        action.setIndirectObjectPhrase(getObjectPhrase(indirectTokens));
+        // Create the object phrases from the token ranges. Tokens after
+        // preposition (if any) are indirect tokens.
+        action.setDirectObjectPhrase(getObjectPhrase(tokens, start, i));
+        action.setIndirectObjectPhrase(getObjectPhrase(tokens, i + 1, end));
 
         return action;
     }
@@ -0,0 +1,522 @@
+package com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.words.*;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Parses an input string into a {@link Command}. The parser abides by the
+ * following grammar rules:
+ * <p>
+ * 1. The dictionary of all possible verbs, adjectives, direct objects, and
+ * indirect objects is not known.<br> - The game handles the validity of these
+ * words, not the parser.<br> 2. The first words of the input is always a
+ * verb.<br> - Player {@link Command} are 2nd person imperative statements.<br>
+ * 3. Indirect object phrases are always preceded by a preposition.<br> 4.
+ * Direct object phrases are always positioned before indirect object
+ * phrases.<br> 5. The dictionary of all possible prepositions is known.<br> 6.
+ * The dictionary of all possible determiners is known.<br> 7. The dictionary of
+ * all possible verbs is known.<br>
+ *
+ * <p>
+ * <b>TODO</b>
+ * </p>
+ * Action multiplying: when multiple direct objects share a single preposition
+ * with multiple indirect objects, the verb and preposition is applied to all
+ * permutations of direct and indirect object phrases.
+ *
+ * <p>
+ * Parsers are immutable once constructed, and so can be shared between
+ * threads.
+ *
+ * @author Evan Quan
+ */
+class VerbGnosticParser extends Parser {
+
+    /**
+     * The verbs of the action types, which tokens are classified as {@link
+     * WordClass#VERB} by while lexing. Never modified after construction.
+     */
+    private final CaseInsensitiveTable verbs;
+
+    /**
+     * The maximum number of owners an object phrase can have.
+     */
+    private final int maxOwnerDepth;
+
+    /**
+     * Components that an action has while fixing its syntax.
+     */
+    private static final int HAS_VERB_PHRASE = 1;
+    private static final int HAS_DIRECT = 1 << 1;
+    private static final int HAS_PREPOSITION = 1 << 2;
+    private static final int HAS_INDIRECT = 1 << 3;
+
+    /**
+     * Can only be instantiated by ParserFactory
+     *
+     * @param actionTypes   to recognize verbs with. Only read during
+     *                      construction, so it is not copied.
+     * @param lexer         to split input into tokens with
+     * @param maxOwnerDepth maximum number of owners an object phrase can have
+     */
+    VerbGnosticParser(Map<String, ?> actionTypes, Lexer lexer,
+                      int maxOwnerDepth) {
+        super(lexer);
+        this.maxOwnerDepth = maxOwnerDepth;
+        this.verbs = new CaseInsensitiveTable();
+        for (String verb : actionTypes.keySet()) {
+            // Input is lower cased before checking for verbs, so verbs
+            // with upper case letters are never matched, and neither is a
+            // null verb.
+            if (verb != null && verb.equals(verb.toLowerCase())) {
+                verbs.add(verb, WordClass.VERB);
+            }
+        }
+    }
+
+    /**
+     * Find an objective phrase from a range of tokens. Can be either a direct
+     * or indirect object phrase.
+     * <p>
+     * Owners are found iteratively, one belonging preposition at a time. If
+     * the owners go deeper than the maximum owner depth, the remaining tokens
+     * are ignored and the returned object phrase is marked as truncated.
+     *
+     * @param tokens to parse for an object phrase
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
+     * @return object phrase that is composed of all token components, or null
+     * if the range is empty. An ObjectPhrase without an owner will have a null
+     * owner.
+     */
+    @Override
+    public ObjectPhrase getObjectPhrase(TokenStream tokens, int start,
+                                        int end) {
+        ObjectPhrase root = null;
+        ObjectPhrase owned = null;
+        for (int depth = 0; start < end; depth++) {
+            if (depth > maxOwnerDepth) {
+                root.setTruncated(true);
+                break;
+            }
+            ObjectPhrase objectPhrase = new ObjectPhrase();
+            if (owned == null) {
+                root = objectPhrase;
+            } else {
+                owned.setOwner(objectPhrase);
+            }
+            start = parseOwnedObjectPhrase(objectPhrase, tokens, start, end);
+            owned = objectPhrase;
+        }
+        return root;
+    }
+
+    /**
+     * Parse the tokens of an object phrase up to and including its belonging
+     * preposition, if any. The owner is not parsed.
+     *
+     * @param objectPhrase to set the components of
+     * @param tokens       to parse for an object phrase
+     * @param start        of the range of tokens, inclusive
+     * @param end          of the range of tokens, exclusive
+     * @return the index of the first token of the owner, or end if there are
+     * no tokens for an owner.
+     */
+    private static int parseOwnedObjectPhrase(ObjectPhrase objectPhrase,
+                                              TokenStream tokens, int start,
+                                              int end) {
+        // Scan for an determiner. If one is found, skip it and parse the
+        // rest of the input.
+        // NOTE: The preposition must be the first words in the list for it to
+        // make sense grammatically. If a determiner is preceded with another
+        // words, be it another determiner or not, it will be counted as an
+        // adjective.
+        if (tokens.is(start, WordClass.DETERMINER)) {
+            objectPhrase.setDeterminer(tokens.getString(start));
+            start++;
+        }
+
+        // Scan for a belonging preposition (of), which determines if this
+        // object phrase is owned by an other object phrase.
+        // Tokens before it are to be used for this object phrase and not its
+        // owner (if any).
+        int preposition;
+        for (preposition = start; preposition < end; preposition++) {
+            if (tokens.is(preposition, WordClass.BELONGING_PREPOSITION)) {
+                objectPhrase.setPreposition(tokens.getString(preposition));
+                break;
+            }
+        }
+
+        // The last words in the input is the object. Skip it and parse
+        // the rest of the input.
+        int nounIndex = preposition - 1;
+        if (start <= nounIndex) {
+            // If no more tokens remain, then the last words is not a noun
+            objectPhrase.setNoun(tokens.getString(nounIndex));
+        }
+        // If any input remains, they are adjectives which modify the
+        // object.
+        // TODO: This WILL need to change once multiple {@link Command} separated
+        // by commas with a single verb is implemented. Either here, or in
+        // syntactical analysis.
+        if (start < nounIndex) {
+            ArrayList<String> adjectives = new ArrayList<>(nounIndex - start);
+            for (int i = start; i < nounIndex; i++) {
+                adjectives.add(tokens.getString(i));
+            }
+            objectPhrase.setAdjectives(adjectives);
+        }
+
+        // Remaining tokens after belonging preposition are for the owner.
+        return Math.min(preposition + 1, end);
+    }
+
+    /**
+     * Parse input text into words and apply their appropriate meanings and
+     * relationships. Accepts only imperative statements.
+     *
+     * @param input  to parse into words
+     * @param tokens to clear and split the input into
+     * @return all non-empty actions of the input, in order.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens) {
+        return parseActions(input, tokens, null);
+    }
+
+    /**
+     * @param input    to parse into words
+     * @param tokens   to clear and split the input into
+     * @param listener to tell how long each phase takes, or null if parsing
+     *                 is not timed
+     * @return all non-empty actions of the input, in order.
+     */
+    @Override
+    ArrayList<Action> parseActions(CharSequence input, TokenStream tokens,
+                                   ParseListener listener) {
+        long start = listener == null ? 0 : System.nanoTime();
+
+        // https://groups.google.com/forum/#!topic/rec.arts.int-fiction/VpsWZdWRnlA
+        getLexer().tokenize(input, verbs, tokens);
+        long lexed = listener == null ? 0 : System.nanoTime();
+
+        // Each segment of tokens between action separators is its own
+        // action. Separators are not included in any segment.
+        ArrayList<Action> actions = new ArrayList<>();
+        for (int i = 0; i < tokens.getSegmentCount(); i++) {
+            Action action = getAction(tokens,
+                    tokens.getSegmentStart(i), tokens.getSegmentEnd(i));
+            if (!action.isEmpty()) {
+                actions.add(action);
+            }
+        }
+        long analysed = listener == null ? 0 : System.nanoTime();
+
+        syntacticalCleanup(actions);
+
+        if (listener != null) {
+            long end = System.nanoTime();
+            listener.phaseCompleted(ParsePhase.LEXICAL_ANALYSIS, lexed - start);
+            listener.phaseCompleted(ParsePhase.SYNTACTICAL_ANALYSIS,
+                    analysed - lexed);
+            listener.phaseCompleted(ParsePhase.SYNTACTICAL_CLEANUP,
+                    end - analysed);
+            listener.parseCompleted(tokens.size(), actions.size(), end - start);
+        }
+
+        return actions;
+    }
+
+    /**
+     * <b>Step 2: Syntactical Analysis</b>
+     * <p>
+     * Takes a sequence of tokens and sees whether the sequences matches a known
+     * correct sentence structure.
+     * <p>
+     * <b>Grammar Rules</b><br>
+     * <p>
+     * 0. The dictionary of all possible verbs, adjectives, direct objects, and
+     * indirect objects is <b>not</b> known.<br> 1. The first world of the input
+     * is a always a verb unless<br> - it is a valid determiner, which then the
+     * verb phrase is skipped and the indirect object phrase is parsed.<br> - it
+     * is a preposition, which then the verb phrase and indirect object phrase
+     * is skipped and the preposition and indirect object phrase are parsed.<br>
+     * 2. Indirect object phrases are always preceded by a preposition.<br> 3.
+     * Direct object phrases are always positioned before indirect object
+     * phrases.<br> 4. The dictionary of all possible Prepositions is known.<br>
+     * 5. The dictionary of all possible determiners is known.<br>
+     *
+     * @param tokens to parse for action
+     * @param start  of the range of tokens, inclusive
+     * @param end    of the range of tokens, exclusive
+     * @return action parsed from tokens
+     */
+    @Override
+    public Action getAction(TokenStream tokens, int start, int end) {
+
+        Action action = new Action();
+        if (start >= end) {
+            // This happens when the player input string an empty string
+            return action;
+        }
+
+        // Get adverbs
+        VerbPhrase verbPhrase = new VerbPhrase();
+        ArrayList<String> adverbs = new ArrayList<>();
+        while (start < end && tokens.is(start, WordClass.ADVERB)) {
+            adverbs.add(tokens.getString(start));
+            start++;
+        }
+        verbPhrase.setAdverbs(adverbs);
+        if (start == end) {
+            // If the action is only adverbs, then return early
+            action.setVerbPhrase(verbPhrase);
+            return action;
+        }
+        if (tokens.is(start, WordClass.VERB)) {
+            // 0. The first words is a verb. Skip it and parse the rest of the
+            // input. No adverbs are allowed as it would not be
+            // possible to distinguish between the end of the verb phrase and
+            // the start of the proceeding indirect/direct object
+            // phrase without a dictionary of all possible verbs.
+            verbPhrase.setVerb(tokens.getString(start));
+            start++;
+        }
+        action.setVerbPhrase(verbPhrase);
+        // 1. Scan for a preposition. If one is found, store it.
+        // Parse the input preceding the preposition as a direct object
+        // phrase. Parse the input following the preposition as an
+        // indirect object phrase. For the sake of how the Command will
+        // be parsed in the game, the preposition is added to the indirect
+        // object phrase.
+
+        // Tokens before preposition (if any) are direct tokens.
+        int i;
+        for (i = start; i < end; i++) {
+            if (tokens.is(i, WordClass.OBJECT_PHRASE_SEPARATING_PREPOSITION)) {
+                action.setPreposition(tokens.getString(i));
+                break;
+            }
+        }
+
+        // Create the object phrases from the token ranges. Tokens after
+        // preposition (if any) are indirect tokens.
+        action.setDirectObjectPhrase(getObjectPhrase(tokens, start, i));
+        action.setIndirectObjectPhrase(getObjectPhrase(tokens, i + 1, end));
+
+        return action;
+    }
+
+    /**
+     * Modify all actions in a {@link Command} so that inferred components
+     * can be added to each of them. In more detail, this ensures that all valid
+     * multi-actions work by ensuring each one has the verb phrases,
+     * prepositions, direct and indirect object phrases necessary.
+     * <p>
+     * Which components each action has are found once and kept in a state
+     * array, which both passes read and update instead of asking the actions
+     * again.
+     *
+     * @param actions to fix
+     */
+    private void syntacticalCleanup(ArrayList<Action> actions) {
+        if (actions.isEmpty()) {
+            return;
+        }
+
+        // Backwards fix must be applied after forward fix because forward
+        // fix fixes some direct object phrases to indirect object
+        // phrases
+        int[] states = new int[actions.size()];
+        fixSyntaxForward(actions, states);
+        fixSyntaxBackwards(actions, states);
+    }
+
+    /**
+     * @param action to check
+     * @return the components that the action has, as a combination of
+     * HAS_VERB_PHRASE, HAS_DIRECT, HAS_PREPOSITION and HAS_INDIRECT.
+     */
+    private static int getState(Action action) {
+        int state = 0;
+        if (action.hasVerbPhrase()) {
+            state |= HAS_VERB_PHRASE;
+        }
+        if (action.hasDirectObjectPhrase()) {
+            state |= HAS_DIRECT;
+        }
+        if (action.hasPreposition()) {
+            state |= HAS_PREPOSITION;
+        }
+        if (action.hasIndirectObjectPhrase()) {
+            state |= HAS_INDIRECT;
+        }
+        return state;
+    }
+
+    /**
+     * Copy verb phrase forward if it has one. If a new verb phrase is found
+     * with an accompanying direct object phrase, set that as the new verb to
+     * copy forward. The accompanying direct object phrase is needed because
+     * otherwise, the verb is being treated as an intransitive verb, which
+     * cannot transfer onto a list of direct object verbs.
+     * <p>
+     * Standalone verb phrases signify terminating intransitive verbs. These
+     * verbs alone are their own actions and so don't transfer to future
+     * listed direct or indirect object phrases.
+     * <p>
+     * A direct object phrase is identified to start copying over if a phrase
+     * has a verb, direct object phrase, preposition and indirect object
+     * phrase. It continues to copy over until it reaches an action with a
+     * direct object, and (preposition or indirect object phrase), where the
+     * phrase to copy is updated. It stops copying completely if it reaches an
+     * action where a new verb is found without a (preposition or indirect
+     * object phrase).
+     * <p>
+     * Prepositions are also added if the initial verb has a preposition. Direct
+     * object phrases are changed in indirect object phrases to have the
+     * preposition refer to the object phrase. If a new preposition is found,
+     * switch to the new preposition to copy.
+     *
+     * @param actions to fix
+     * @param states  to set to the components of each action after it is
+     *                fixed
+     */
+    private void fixSyntaxForward(ArrayList<Action> actions, int[] states) {
+        VerbPhrase verbPhraseToCopy = null;
+        ObjectPhrase directObjectToCopy = null;
+        String prepositionToCopy = null;
+        for (int i = 0; i < states.length; i++) {
+            Action action = actions.get(i);
+            int state = getState(action);
+
+            if ((state & HAS_VERB_PHRASE) != 0) {
+                verbPhraseToCopy = (state & (HAS_DIRECT | HAS_INDIRECT)) != 0 ?
+                        action.getVerbPhrase() : null;
+            }
+            // Otherwise, an action with a direct or indirect object phrase
+            // without a corresponding verb phrase is found. This means that
+            // the previously established verb phrase to copy should be
+            // copied to this action.
+
+            if (verbPhraseToCopy == null) {
+                // Stop copying since a null verbPhraseToCopy signifies that
+                // copying has stopped
+                directObjectToCopy = null;
+                prepositionToCopy = null;
+                states[i] = state;
+                continue;
+            }
+            if ((state & HAS_DIRECT) != 0
+                    && (state & (HAS_PREPOSITION | HAS_INDIRECT)) != 0) {
+                // Cannot just be a direct object phrase alone. If it is, then
+                // it will be transferred to an indirect object phrase.
+                directObjectToCopy = action.getDirectObjectPhrase();
+            }
+            if ((state & HAS_PREPOSITION) != 0
+                    && (state & HAS_INDIRECT) != 0) {
+                prepositionToCopy = action.getPreposition();
+            } else if ((state & HAS_VERB_PHRASE) != 0) {
+                prepositionToCopy = null;
+            }
+
+            // Copied verb phrases come from actions that have them.
+            action.setVerbPhrase(verbPhraseToCopy);
+            state |= HAS_VERB_PHRASE;
+            if (prepositionToCopy != null) {
+                action.setPreposition(prepositionToCopy);
+                state |= HAS_PREPOSITION;
+                // A direct object phrase without an indirect object phrase
+                // becomes the object of the copied preposition.
+                if (action.getDirectObjectPhrase() != null
+                        && (state & HAS_INDIRECT) == 0) {
+                    action.setIndirectObjectPhrase(
+                            action.getDirectObjectPhrase());
+                    action.setDirectObjectPhrase(null);
+                    if ((state & HAS_DIRECT) != 0) {
+                        state = (state & ~HAS_DIRECT) | HAS_INDIRECT;
+                    }
+                }
+            }
+            if (directObjectToCopy != null) {
+                // Copied direct object phrases come from actions that have
+                // them.
+                action.setDirectObjectPhrase(directObjectToCopy);
+                state |= HAS_DIRECT;
+            }
+            states[i] = state;
+        }
+    }
+
+    /**
+     * Copy preposition and indirect object phrase backwards. If a new
+     * preposition or indirect object phrase is found, set that as the new
+     * preposition or indirect object phrase to copy backwards. Copying stops
+     * once the verb phrase changes.
+     *
+     * @param actions to fix
+     * @param states  of the components of each action
+     */
+    private void fixSyntaxBackwards(ArrayList<Action> actions, int[] states) {
+        VerbPhrase lastVerbPhrase = (states[0] & HAS_VERB_PHRASE) != 0 ?
+                actions.get(0).getVerbPhrase() : null;
+        String prepositionToCopy = null;
+        ObjectPhrase indirectToCopy = null;
+        for (int i = states.length - 1; i >= 0; i--) {
+            Action action = actions.get(i);
+            int state = states[i];
+            VerbPhrase verbPhrase = (state & HAS_VERB_PHRASE) != 0 ?
+                    action.getVerbPhrase() : null;
+
+            if (verbPhrase != null && verbPhrase.equals(lastVerbPhrase)) {
+                // Same verb, different preposition or indirect object phrase
+                // means update to the new one to copy. Otherwise, copy the
+                // one already defined.
+                if ((state & HAS_PREPOSITION) != 0) {
+                    prepositionToCopy = action.getPreposition();
+                } else if (prepositionToCopy != null) {
+                    action.setPreposition(prepositionToCopy);
+                }
+                if ((state & HAS_INDIRECT) != 0) {
+                    indirectToCopy = action.getIndirectObjectPhrase();
+                } else if (indirectToCopy != null) {
+                    action.setIndirectObjectPhrase(indirectToCopy);
+                }
+            } else {
+                // Stop copying as verb has changed
+                prepositionToCopy = null;
+                indirectToCopy = null;
+            }
+
+            lastVerbPhrase = verbPhrase;
+        }
+    }
+
+    // /**
+    // * <b>Part 3: Translation</b>
+    // * <p>
+    // * TODO Creates a player command from a list of words. Depending on the
+    // relation
+    // * between words, the {@link Action} {@link Verb} and object {@link Noun} are
+    // * determined.
+    // *
+    // * @param input
+    // * - original input string
+    // * @param statement
+    // * @return
+    // */
+    // private Command translation(String input, Sentence statement) {
+    // // Index tracking
+    // int actionIndex = 0;
+    // int objectIndex = 0;
+    // // 1. The first words of the command should either be a verb, or a shortcut
+    // // represents some {@link Action}
+    //
+    // // return new Command(command, {@link Action}, object);
+    // return null;
+    // }
+}
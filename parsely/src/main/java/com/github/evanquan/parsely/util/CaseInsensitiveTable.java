@@ -0,0 +1,240 @@
+package com.github.evanquan.parsely.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Maps words to int flags, ignoring the case of the words. Lookups give the
+ * same result as looking up {@code word.toString().toLowerCase(Locale.ROOT)}
+ * in a {@link java.util.HashMap} of words lower cased the same way, but do not
+ * create a lower case copy of the word to do so. Case is folded by
+ * {@link Locale#ROOT} rather than the default locale, so that, for example,
+ * "QUIT" is still found under a Turkish locale, where the default lower case
+ * of "I" is a dotless "i".
+ * <p>
+ * Words are stored by open addressing with linear probing, and are hashed by
+ * their lower case characters. ASCII characters are folded to lower case
+ * while hashing. Words with other characters are rare enough that they fall
+ * back to {@link String#toLowerCase(Locale)}, which keeps its special cases
+ * (such as the dotted capital I and final sigma) exact.
+ * <p>
+ * A table is safe to read from multiple threads once it is no longer being
+ * added to.
+ *
+ * @author Evan Quan
+ */
+public final class CaseInsensitiveTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Lower case words. Empty slots are null.
+     */
+    private String[] keys;
+    /**
+     * Flags of the word at the same index of keys.
+     */
+    private int[] values;
+    /**
+     * Number of words.
+     */
+    private int size;
+
+    /**
+     * Creates an empty table.
+     */
+    public CaseInsensitiveTable() {
+        keys = new String[DEFAULT_CAPACITY];
+        values = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * @param c to fold
+     * @return the lower case of c if it is an upper case ASCII letter,
+     * otherwise c.
+     */
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Spread the high bits of a hash into the low bits used for indexing.
+     *
+     * @param hash to spread
+     * @return the spread hash
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Add the flags to a word. If the word is already in the table, its flags
+     * become the union of its existing flags and the specified flags.
+     *
+     * @param word  to add
+     * @param flags to add to the word
+     */
+    public void add(String word, int flags) {
+        String key = word.toLowerCase(Locale.ROOT);
+        int index = indexOf(key, key.hashCode());
+        if (keys[index] != null) {
+            values[index] |= flags;
+            return;
+        }
+        keys[index] = key;
+        values[index] = flags;
+        size++;
+        // Keep the load factor at most 1/2 so probes stay short
+        if (2 * size > keys.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Add the flags to every word.
+     *
+     * @param words to add
+     * @param flags to add to each word
+     */
+    public void addAll(Collection<String> words, int flags) {
+        for (String word : words) {
+            add(word, flags);
+        }
+    }
+
+    /**
+     * @param word to get the flags of, ignoring case
+     * @return the flags of the word, or 0 if it is not in the table.
+     */
+    public int get(CharSequence word) {
+        return get(word, 0, word.length());
+    }
+
+    /**
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return the flags of the word input[start, end), ignoring case, or 0
+     * if it is not in the table.
+     */
+    public int get(CharSequence input, int start, int end) {
+        int index = find(input, start, end);
+        return index == -1 ? 0 : values[index];
+    }
+
+    /**
+     * @param word to check, ignoring case
+     * @return true if the word is in the table.
+     */
+    public boolean contains(CharSequence word) {
+        return find(word, 0, word.length()) != -1;
+    }
+
+    /**
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return true if the word input[start, end) is in the table, ignoring
+     * case.
+     */
+    public boolean contains(CharSequence input, int start, int end) {
+        return find(input, start, end) != -1;
+    }
+
+    /**
+     * @return the number of words in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return the index of the word input[start, end), ignoring case, or -1
+     * if it is not in the table.
+     */
+    private int find(CharSequence input, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c >= 0x80) {
+                String key = input.subSequence(start, end).toString()
+                        .toLowerCase(Locale.ROOT);
+                int index = indexOf(key, key.hashCode());
+                return keys[index] == null ? -1 : index;
+            }
+            // Same as String.hashCode() of the lower case word
+            hash = 31 * hash + toLowerCase(c);
+        }
+        String[] keys = this.keys;
+        int mask = keys.length - 1;
+        for (int index = spread(hash) & mask; keys[index] != null;
+             index = (index + 1) & mask) {
+            if (equalsIgnoreCase(keys[index], input, start, end)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param key   lower case word
+     * @param input containing the ASCII word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return true if input[start, end) is equal to key, ignoring case.
+     */
+    private static boolean equalsIgnoreCase(String key, CharSequence input,
+                                            int start, int end) {
+        int length = key.length();
+        if (length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != toLowerCase(input.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param key  lower case word
+     * @param hash of key
+     * @return the index of key, or the empty index where it would be added.
+     */
+    private int indexOf(String key, int hash) {
+        int mask = keys.length - 1;
+        int index = spread(hash) & mask;
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Double the capacity of the table and re-add all words.
+     */
+    private void resize() {
+        String[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new String[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = indexOf(oldKeys[i], oldKeys[i].hashCode());
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.stream(keys)
+                .filter(key -> key != null).toArray());
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.evanquan.parsely.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts non-negative values, such as latencies in nanoseconds, in buckets
+ * whose bounds are powers of 2. Bucket 0 counts 0, and bucket i counts values
+ * from 2^(i - 1) to 2^i - 1, so percentiles are accurate to within a factor
+ * of 2 however large the values are.
+ * <p>
+ * Recording does not lock or allocate, so values can be recorded by any
+ * number of threads at the same time. Reads while values are being recorded
+ * may not include all of them.
+ *
+ * @author Evan Quan
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets, enough for every non-negative long.
+     */
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    /**
+     * Number of values in each bucket.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    /**
+     * Sum of all values.
+     */
+    private final AtomicLong total = new AtomicLong();
+    /**
+     * Largest value.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param value to get the bucket of
+     * @return the index of the bucket that counts value.
+     */
+    private static int getBucket(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * @param value to record. Negative values, such as from a clock going
+     *              backwards, are recorded as 0.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(getBucket(value));
+        total.addAndGet(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * @return the number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of all values recorded.
+     */
+    public long getTotal() {
+        return total.get();
+    }
+
+    /**
+     * @return the largest value recorded, or 0 if none have been.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of all values recorded, or 0 if none have been.
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getTotal() / count;
+    }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return the upper bound of the bucket that the value at the percentile
+     * is in, but at most the largest value, or 0 if no values have been
+     * recorded.
+     * @throws IllegalArgumentException if percentile is not from 0 to 100
+     */
+    public long getPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException(
+                    "Percentile must be from 0 to 100: " + percentile);
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            rank -= counts[i];
+            if (rank <= 0) {
+                long upperBound = i == BUCKET_COUNT - 1
+                        ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upperBound, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Forget all values recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        total.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() + ", mean=" + getMean() + ", p50="
+                + getPercentile(50) + ", p99=" + getPercentile(99) + ", max="
+                + getMax();
+    }
+}
@@ -0,0 +1,242 @@
+package com.github.evanquan.parsely.util;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Maps known words, or symbols, to one canonical {@link String} and an int
+ * id, so that every occurrence of a known word can share one instance.
+ * Words are matched exactly, including case. Ids are given out in the order
+ * words are added, starting from 0.
+ * <p>
+ * The table holds at most a fixed number of symbols, so it cannot grow
+ * without bound however many different words are added. Words added once it
+ * is full are not known.
+ * <p>
+ * Symbols are stored by open addressing with linear probing. Lookups do not
+ * lock and can run at the same time as adds, which are serialized.
+ *
+ * @author Evan Quan
+ */
+public final class SymbolTable {
+
+    /**
+     * Id of words that are not symbols.
+     */
+    public static final int NO_ID = -1;
+
+    /**
+     * Symbols by id.
+     */
+    private final AtomicReferenceArray<String> symbols;
+    /**
+     * Id + 1 of the symbol hashed to each slot. Empty slots are 0.
+     */
+    private final AtomicIntegerArray slots;
+    /**
+     * Number of symbols. Only changed while holding the lock of this table.
+     */
+    private volatile int size;
+
+    /**
+     * @param capacity maximum number of symbols
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public SymbolTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                    "Capacity must be positive: " + capacity);
+        }
+        this.symbols = new AtomicReferenceArray<>(capacity);
+        // Keep the load factor at most 1/2 so probes stay short
+        this.slots = new AtomicIntegerArray(
+                Integer.highestOneBit(capacity * 2 - 1) * 2);
+    }
+
+    /**
+     * Spread the high bits of a hash into the low bits used for indexing.
+     *
+     * @param hash to spread
+     * @return the spread hash
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @param symbol to add
+     * @return the id of the symbol, or {@link #NO_ID} if it is not already a
+     * symbol and the table is full.
+     */
+    public synchronized int add(String symbol) {
+        Objects.requireNonNull(symbol);
+        int id = getId(symbol);
+        if (id != NO_ID || size == symbols.length()) {
+            return id;
+        }
+        id = size;
+        // The symbol and size are set before the slot, so lookups that find
+        // the slot also find the symbol, and getSymbol accepts its id.
+        symbols.set(id, symbol);
+        size = id + 1;
+        int mask = slots.length() - 1;
+        int index = spread(symbol.hashCode()) & mask;
+        while (slots.get(index) != 0) {
+            index = (index + 1) & mask;
+        }
+        slots.set(index, id + 1);
+        return id;
+    }
+
+    /**
+     * Add every word that is not already a symbol, until the table is full.
+     *
+     * @param words to add
+     */
+    public synchronized void addAll(Collection<String> words) {
+        for (String word : words) {
+            add(word);
+        }
+    }
+
+    /**
+     * @param word to get the id of
+     * @return the id of the word, or {@link #NO_ID} if it is not a symbol.
+     */
+    public int getId(CharSequence word) {
+        return getId(word, 0, word.length());
+    }
+
+    /**
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return the id of the word input[start, end), or {@link #NO_ID} if it
+     * is not a symbol.
+     */
+    public int getId(CharSequence input, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            // Same as String.hashCode() of the word
+            hash = 31 * hash + input.charAt(i);
+        }
+        int mask = slots.length() - 1;
+        for (int index = spread(hash) & mask; ; index = (index + 1) & mask) {
+            int slot = slots.get(index);
+            if (slot == 0) {
+                return NO_ID;
+            }
+            if (equals(symbols.get(slot - 1), input, start, end)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * Look up a word as if it were lower cased one char at a time with
+     * {@link Character#toLowerCase(char)}, without copying it.
+     *
+     * @param word to get the id of in lower case
+     * @return the id of the word in lower case, or {@link #NO_ID} if it is
+     * not a symbol.
+     */
+    public int getLowerCaseId(CharSequence word) {
+        int length = word.length();
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + Character.toLowerCase(word.charAt(i));
+        }
+        int mask = slots.length() - 1;
+        for (int index = spread(hash) & mask; ; index = (index + 1) & mask) {
+            int slot = slots.get(index);
+            if (slot == 0) {
+                return NO_ID;
+            }
+            if (equalsLowerCase(symbols.get(slot - 1), word)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    /**
+     * @param id of symbol
+     * @return the symbol with the id.
+     * @throws IndexOutOfBoundsException if there is no symbol with the id
+     */
+    public String getSymbol(int id) {
+        return symbols.get(Objects.checkIndex(id, size));
+    }
+
+    /**
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return the canonical symbol equal to the word input[start, end), or
+     * a new copy of the word if it is not a symbol.
+     */
+    public String intern(CharSequence input, int start, int end) {
+        int id = getId(input, start, end);
+        if (id != NO_ID) {
+            return symbols.get(id);
+        }
+        if (input instanceof String) {
+            return ((String) input).substring(start, end);
+        }
+        return input.subSequence(start, end).toString();
+    }
+
+    /**
+     * @return the number of symbols.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of symbols.
+     */
+    public int getCapacity() {
+        return symbols.length();
+    }
+
+    /**
+     * @param symbol to compare
+     * @param input  containing the word
+     * @param start  of the word, inclusive
+     * @param end    of the word, exclusive
+     * @return true if input[start, end) is equal to symbol.
+     */
+    private static boolean equals(String symbol, CharSequence input,
+                                  int start, int end) {
+        int length = symbol.length();
+        if (length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (symbol.charAt(i) != input.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param symbol to compare
+     * @param word   to compare in lower case
+     * @return true if the word in lower case is equal to symbol.
+     */
+    private static boolean equalsLowerCase(String symbol, CharSequence word) {
+        int length = symbol.length();
+        if (length != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (symbol.charAt(i) != Character.toLowerCase(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.evanquan.parsely.util;
+
+/**
+ * Has utility functions for text
+ *
+ * @author Evan Quan
+ */
+public class TextUtils {
+
+    /**
+     * Cannot instantiate.
+     */
+    private TextUtils() {
+    }
+
+    /**
+     * @param string to check
+     * @return true if string matches the form of an integer, or a floating
+     * point number that can be expressed by an integer. Assumes decimal
+     * format.
+     */
+    public static boolean isInteger(CharSequence string) {
+        return isInteger(string, 0, string.length());
+    }
+
+    /**
+     * Checks the same form as the regular expression {@code \d+((.)?0+)?},
+     * without compiling or matching a regular expression. That is, one or
+     * more ASCII digits, optionally followed by any one separator character
+     * (other than a line terminator) and one or more zeros. As with the
+     * regular expression, the separator is a code point, so it can be a
+     * surrogate pair.
+     *
+     * @param string containing the number
+     * @param start  of the number, inclusive
+     * @param end    of the number, exclusive
+     * @return true if string[start, end) matches the form of an integer, or
+     * a floating point number that can be expressed by an integer.
+     */
+    public static boolean isInteger(CharSequence string, int start, int end) {
+        int i = start;
+        while (i < end && isDigit(string.charAt(i))) {
+            i++;
+        }
+        if (i == start) {
+            return false;
+        }
+        if (i == end) {
+            return true;
+        }
+        // The first non-digit is the separator. As a separator could also
+        // be a digit, there are no other ways to match after the digits.
+        char separator = string.charAt(i++);
+        if (isLineTerminator(separator)) {
+            return false;
+        }
+        if (Character.isHighSurrogate(separator) && i < end
+                && Character.isLowSurrogate(string.charAt(i))) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        while (i < end) {
+            if (string.charAt(i++) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param string that {@link #isInteger(CharSequence)}
+     * @return the value of the integer, or {@link Long#MAX_VALUE} if it is
+     * too large to be a long.
+     */
+    public static long getIntegerValue(CharSequence string) {
+        return getIntegerValue(string, 0, string.length());
+    }
+
+    /**
+     * @param string containing the number
+     * @param start  of the number, inclusive
+     * @param end    of the number, exclusive
+     * @return the value of the integer string[start, end) is, or {@link
+     * Long#MAX_VALUE} if it is too large to be a long. Any fractional part
+     * is all zeros, and so is ignored.
+     */
+    public static long getIntegerValue(CharSequence string, int start,
+                                       int end) {
+        long value = 0;
+        for (int i = start; i < end && isDigit(string.charAt(i)); i++) {
+            int digit = string.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return Long.MAX_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * @param c to check
+     * @return true if c is an ASCII digit, which is what {@code \d} matches.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @param c to check
+     * @return true if c is a line terminator, which is what {@code .} does not
+     * match.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085'
+                || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Split words by upper case letters
+     *
+     * @param string to split
+     * @return an array of which each element is a words split by camel case
+     */
+    public static String[] splitCamelCase(String string) {
+        return string.split("(?<!^)(?=[A-Z])");
+    }
+
+    /**
+     * Split words by upper case letters by spaces
+     *
+     * @param string to split
+     * @return a string of words separated by spaces by camel case
+     */
+    public static String splitCamelCaseToString(String string) {
+        return String.join(" ", splitCamelCase(string));
+    }
+
+    /**
+     * @param string to check
+     * @return true if string starts with a vowel
+     */
+    public static boolean startsWithVowel(String string) {
+        switch (Character.toLowerCase(string.charAt(0))) {
+            case 'a':
+            case 'e':
+            case 'i':
+            case 'o':
+            case 'u':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Removes extension from file name, noted by a '.'
+     *
+     * @param fileName to to strip
+     * @return fileName without extension
+     */
+    public static String stripExtension(String fileName) {
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex > 0) {
+            fileName = fileName.substring(0, dotIndex);
+        }
+        return fileName;
+    }
+
+    /**
+     * Converts to lower case before title case Important for convert upper case
+     * or mixed case to title case
+     *
+     * @param string to be converted
+     * @return title case string
+     */
+    public static String toLowerTitleCase(String string) {
+        return toTitleCase(string.toLowerCase());
+    }
+
+    /**
+     * Converts beginning of each words in string to upper case
+     *
+     * @param string to change to title case
+     * @return title case string
+     */
+    public static String toTitleCase(String string) {
+        String[] words = string.split(" ");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = Character.toUpperCase(words[i].charAt(0)) + words[i].substring(1);
+        }
+        return String.join(" ", words);
+    }
+}
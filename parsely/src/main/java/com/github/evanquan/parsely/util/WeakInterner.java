@@ -0,0 +1,130 @@
+package com.github.evanquan.parsely.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps objects to a canonical instance that is equal to them, so equal
+ * objects can share one instance and be compared by reference. This is like
+ * {@link String#intern()}, but for any object with
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * <p>
+ * Canonical instances are only weakly referenced, so they are forgotten once
+ * nothing else refers to them. Interned objects must not change while they
+ * are canonical, as they could no longer be found by their hash code.
+ * <p>
+ * An interner can be used by multiple threads at the same time.
+ *
+ * @param <T> type of objects to intern
+ * @author Evan Quan
+ */
+public final class WeakInterner<T> {
+
+    /**
+     * Canonical instances, each mapped to itself.
+     */
+    private final ConcurrentHashMap<Key<T>, Key<T>> canonical =
+            new ConcurrentHashMap<>();
+    /**
+     * Keys whose canonical instance was collected.
+     */
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * @param object to intern
+     * @return the canonical instance equal to object. If there is none, object
+     * becomes the canonical instance and is returned. Null is returned as is.
+     */
+    public T intern(T object) {
+        if (object == null) {
+            return null;
+        }
+        removeCollected();
+        Key<T> lookup = new Key<>(object, null);
+        while (true) {
+            Key<T> key = canonical.get(lookup);
+            if (key == null) {
+                Key<T> added = new Key<>(object, collected);
+                key = canonical.putIfAbsent(added, added);
+                if (key == null) {
+                    return object;
+                }
+            }
+            T instance = key.get();
+            if (instance != null) {
+                return instance;
+            }
+            // The canonical instance was collected after it was found, so it
+            // is replaced.
+            canonical.remove(key, key);
+        }
+    }
+
+    /**
+     * @return the number of canonical instances, some of which may have been
+     * collected but not yet removed.
+     */
+    public int size() {
+        removeCollected();
+        return canonical.size();
+    }
+
+    /**
+     * Forget all canonical instances.
+     */
+    public void clear() {
+        canonical.clear();
+        removeCollected();
+    }
+
+    /**
+     * Remove the keys of canonical instances that have been collected.
+     */
+    private void removeCollected() {
+        Reference<? extends T> reference;
+        while ((reference = collected.poll()) != null) {
+            canonical.remove(reference);
+        }
+    }
+
+    /**
+     * Weakly refers to an object, and is equal to keys of equal objects. Keys
+     * whose objects have been collected are only equal to themselves.
+     */
+    private static final class Key<T> extends WeakReference<T> {
+
+        /**
+         * The object's hash code, which is kept after it is collected so the
+         * key can still be removed.
+         */
+        private final int hash;
+
+        Key(T object, ReferenceQueue<T> queue) {
+            super(object, queue);
+            this.hash = object.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other instanceof Key) {
+                Key<?> key = (Key<?>) other;
+                if (hash != key.hash) {
+                    return false;
+                }
+                Object object = get();
+                return object != null && object.equals(key.get());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.FuncUtils;
+
+import java.util.Objects;
+
+/**
+ * Represents a single action for the player to do. A {@link Command} may
+ * be composed of multiple actions. Confirms to the following grammar:
+ * <br><br>
+ * VerbPhrase? ObjectPhrase? Preposition? ObjectPhrase?
+ *
+ * @author Evan Quan
+ */
+public class Action {
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof Action) {
+            return hasSameVerbPhrase((Action) other)
+                    && hasSameDirectObjectPhrase((Action) other)
+                    && hasSamePreposition((Action) other)
+                    && hasSameIndirectObjectPhrase((Action) other);
+        }
+        return false;
+    }
+
+    /**
+     * @return a hash code consistent with {@link #equals(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getVerbPhrase(), getDirectObjectPhrase(),
+                getPreposition(), getIndirectObjectPhrase());
+    }
+
+    private VerbPhrase verbPhrase;
+    private ObjectPhrase directObjectPhrase;
+    private String preposition;
+    private ObjectPhrase indirectObjectPhrase;
+
+    /**
+     * Creates an action with no components.
+     */
+    public Action() {
+    }
+
+    /**
+     * Immutable actions can be shared, such as by caches, and between
+     * threads.
+     *
+     * @return an immutable action with immutable copies of the phrases of
+     * this action, or this action if it is already immutable.
+     */
+    public Action toImmutable() {
+        return new Immutable(getVerbPhrase(), getDirectObjectPhrase(),
+                getPreposition(), getIndirectObjectPhrase());
+    }
+
+    /**
+     * @return true if this action cannot be modified, as it was
+     * {@link Builder#build() built} or is {@link #toImmutable() immutable}.
+     */
+    public boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both player actions have the same direct object phrase.
+     */
+    private boolean hasSameDirectObjectPhrase(Action other) {
+        return FuncUtils.nullablesEqual(getDirectObjectPhrase(), other.getDirectObjectPhrase());
+    }
+
+    /**
+     * @return the {@link ObjectPhrase} placed immediately after this action's
+     * {@link VerbPhrase} (if it has one).
+     */
+    public ObjectPhrase getDirectObjectPhrase() {
+        return this.directObjectPhrase;
+    }
+
+    /**
+     * @param directObjectPhrase to set
+     */
+    public void setDirectObjectPhrase(ObjectPhrase directObjectPhrase) {
+        this.directObjectPhrase = directObjectPhrase;
+    }
+
+    /**
+     * @return the {@link ObjectPhrase} placed immediately after this action's
+     * preposition (if it has one).
+     */
+    public ObjectPhrase getIndirectObjectPhrase() {
+        return this.indirectObjectPhrase;
+    }
+
+    /**
+     * @param indirectObjectPhrase to set
+     */
+    public void setIndirectObjectPhrase(ObjectPhrase indirectObjectPhrase) {
+        this.indirectObjectPhrase = indirectObjectPhrase;
+    }
+
+    /**
+     * @return the words positioned between this command's direct and indirect
+     * {@link ObjectPhrase}s.
+     */
+    public String getPreposition() {
+        return this.preposition;
+    }
+
+    /**
+     * @param preposition to set
+     */
+    public void setPreposition(String preposition) {
+        this.preposition = preposition;
+    }
+
+    /**
+     * @return the {@link VerbPhrase} that is the beginning of this action.
+     */
+    public VerbPhrase getVerbPhrase() {
+        return this.verbPhrase;
+    }
+
+    /**
+     * @param verbPhrase to set
+     */
+    public void setVerbPhrase(VerbPhrase verbPhrase) {
+        this.verbPhrase = verbPhrase;
+    }
+
+    /**
+     * Set the verbPhrase to a new VerbPhrase with the corresponding verb.
+     *
+     * @param verb to set
+     */
+    public void setVerbPhrase(String verb) {
+        this.verbPhrase = new VerbPhrase(verb);
+    }
+
+    /**
+     * @return true if this command has a direct {@link ObjectPhrase}
+     */
+    public boolean hasDirectObjectPhrase() {
+        ObjectPhrase directObjectPhrase = getDirectObjectPhrase();
+        return directObjectPhrase != null && !directObjectPhrase.isEmpty();
+    }
+
+    /**
+     * @return true if this command has an indirect {@link ObjectPhrase}
+     */
+    public boolean hasIndirectObjectPhrase() {
+        ObjectPhrase indirectObjectPhrase = getIndirectObjectPhrase();
+        return indirectObjectPhrase != null && !indirectObjectPhrase.isEmpty();
+    }
+
+    /**
+     * @return true if this action has a preposition.
+     */
+    public boolean hasPreposition() {
+        return getPreposition() != null;
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both player actions have the same indirect object phrase.
+     */
+    private boolean hasSameIndirectObjectPhrase(Action other) {
+        return FuncUtils.nullablesEqual(getIndirectObjectPhrase(), other.getIndirectObjectPhrase());
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both player actions have the same preposition.
+     */
+    private boolean hasSamePreposition(Action other) {
+        return FuncUtils.nullablesEqual(getPreposition(), other.getPreposition());
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both player actions have the same verb phrase.
+     */
+    private boolean hasSameVerbPhrase(Action other) {
+        return FuncUtils.nullablesEqual(getVerbPhrase(), other.getVerbPhrase());
+    }
+
+    /**
+     * The verb phrase determines what type the action is. As there may be
+     * multiple synonyms for any given verb, we must unify these synonyms to
+     * action types so the game knows what the player is trying to do.
+     */
+    public enum ActionType {
+        /**
+         * Remove an item from the player's inventory into the world.
+         */
+        DROP,
+        /**
+         * Obtain an item from the world into the player's inventory.
+         */
+        GET,
+        /**
+         * Get more details on a specified object.
+         */
+        EXAMINE,
+        /**
+         * Look at the current room's description.
+         */
+        LOOK,
+        /**
+         * Move to another room.
+         */
+        GO,
+        /**
+         * Examine the contents of the player's inventory.
+         */
+        INVENTORY,
+        /**
+         * Examine the status of the player's stats.
+         */
+        STATS,
+        /**
+         * Save the game.
+         */
+        SAVE,
+        /**
+         * Load the game.
+         */
+        LOAD,
+
+    }
+
+    /**
+     * @return true if this command has a {@link VerbPhrase}
+     */
+    public boolean hasVerbPhrase() {
+        VerbPhrase verbPhrase = getVerbPhrase();
+        return verbPhrase != null && !verbPhrase.isEmpty();
+    }
+
+    /**
+     * @return true if all components are empty.
+     */
+    public boolean isEmpty() {
+        return !hasVerbPhrase()
+                && !hasDirectObjectPhrase()
+                && !hasPreposition()
+                && !hasIndirectObjectPhrase();
+    }
+
+    /**
+     * @return the string representation of this action in terms of all its
+     * components.
+     */
+    @Override
+    public String toString() {
+        return "[" + String.join(", ",
+                (hasVerbPhrase() ? "verbPhrase: " + getVerbPhrase() : ""),
+                (hasDirectObjectPhrase() ?
+                        "directObjectPhrase: " + getDirectObjectPhrase() : ""),
+                (hasPreposition() ? "preposition: " + getPreposition() : ""),
+                (hasIndirectObjectPhrase() ?
+                        "indirectObjectPhrase: " + getIndirectObjectPhrase() : "")
+        )
+                + "]";
+    }
+
+    /**
+     * An action whose components are final and immutable, so it can be
+     * shared between threads without synchronization. Its setters throw
+     * {@link UnsupportedOperationException}.
+     */
+    private static final class Immutable extends Action {
+
+        private final VerbPhrase verbPhrase;
+        private final ObjectPhrase directObjectPhrase;
+        private final String preposition;
+        private final ObjectPhrase indirectObjectPhrase;
+        private final int hash;
+
+        /**
+         * @param verbPhrase           to set an immutable copy of
+         * @param directObjectPhrase   to set an immutable copy of
+         * @param preposition          to set
+         * @param indirectObjectPhrase to set an immutable copy of
+         */
+        Immutable(VerbPhrase verbPhrase, ObjectPhrase directObjectPhrase,
+                  String preposition, ObjectPhrase indirectObjectPhrase) {
+            this.verbPhrase = verbPhrase == null ? null
+                    : verbPhrase.toImmutable();
+            this.directObjectPhrase = directObjectPhrase == null ? null
+                    : directObjectPhrase.toImmutable();
+            this.preposition = preposition;
+            this.indirectObjectPhrase = indirectObjectPhrase == null ? null
+                    : indirectObjectPhrase.toImmutable();
+            this.hash = super.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public Action toImmutable() {
+            return this;
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return true;
+        }
+
+        @Override
+        public VerbPhrase getVerbPhrase() {
+            return verbPhrase;
+        }
+
+        @Override
+        public void setVerbPhrase(VerbPhrase verbPhrase) {
+            throw new UnsupportedOperationException(
+                    "Immutable actions cannot be modified");
+        }
+
+        @Override
+        public void setVerbPhrase(String verb) {
+            throw new UnsupportedOperationException(
+                    "Immutable actions cannot be modified");
+        }
+
+        @Override
+        public ObjectPhrase getDirectObjectPhrase() {
+            return directObjectPhrase;
+        }
+
+        @Override
+        public void setDirectObjectPhrase(ObjectPhrase directObjectPhrase) {
+            throw new UnsupportedOperationException(
+                    "Immutable actions cannot be modified");
+        }
+
+        @Override
+        public String getPreposition() {
+            return preposition;
+        }
+
+        @Override
+        public void setPreposition(String preposition) {
+            throw new UnsupportedOperationException(
+                    "Immutable actions cannot be modified");
+        }
+
+        @Override
+        public ObjectPhrase getIndirectObjectPhrase() {
+            return indirectObjectPhrase;
+        }
+
+        @Override
+        public void setIndirectObjectPhrase(
+                ObjectPhrase indirectObjectPhrase) {
+            throw new UnsupportedOperationException(
+                    "Immutable actions cannot be modified");
+        }
+    }
+
+    /**
+     * Collects the components of an {@link Action} and builds it immutable,
+     * along with immutable copies of its phrases.
+     */
+    public static final class Builder {
+
+        private VerbPhrase verbPhrase;
+        private ObjectPhrase directObjectPhrase;
+        private String preposition;
+        private ObjectPhrase indirectObjectPhrase;
+
+        /**
+         * @param verbPhrase to set
+         * @return this builder
+         */
+        public Builder setVerbPhrase(VerbPhrase verbPhrase) {
+            this.verbPhrase = verbPhrase;
+            return this;
+        }
+
+        /**
+         * @param directObjectPhrase to set
+         * @return this builder
+         */
+        public Builder setDirectObjectPhrase(ObjectPhrase directObjectPhrase) {
+            this.directObjectPhrase = directObjectPhrase;
+            return this;
+        }
+
+        /**
+         * @param preposition to set
+         * @return this builder
+         */
+        public Builder setPreposition(String preposition) {
+            this.preposition = preposition;
+            return this;
+        }
+
+        /**
+         * @param indirectObjectPhrase to set
+         * @return this builder
+         */
+        public Builder setIndirectObjectPhrase(
+                ObjectPhrase indirectObjectPhrase) {
+            this.indirectObjectPhrase = indirectObjectPhrase;
+            return this;
+        }
+
+        /**
+         * @return an immutable action with the components of this builder.
+         */
+        public Action build() {
+            return new Immutable(verbPhrase, directObjectPhrase, preposition,
+                    indirectObjectPhrase);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+
+import java.util.Objects;
+
+/**
+ * An {@link Action} with each of its words resolved to an int id in a
+ * lexicon, so that commands can be dispatched by switching on ids rather than
+ * comparing strings. Words that are not in the lexicon have the id
+ * {@link SymbolTable#NO_ID}, as do missing words.
+ * <p>
+ * A coded action is built from an action after it is parsed, so coding adds
+ * to the cost of parsing. It only keeps the ids and the lexicon, and its
+ * words are resolved back to strings through the lexicon when they are
+ * requested. Words that are not in the lexicon cannot be resolved, so parse
+ * the input as an {@link Action} to keep them. Coded actions cannot be
+ * modified.
+ *
+ * @author Evan Quan
+ */
+public final class CodedAction {
+
+    private final SymbolTable lexicon;
+    private final CodedVerbPhrase verbPhrase;
+    private final CodedObjectPhrase directObjectPhrase;
+    private final int preposition;
+    private final CodedObjectPhrase indirectObjectPhrase;
+
+    /**
+     * @param action  to code
+     * @param lexicon to resolve words to ids with
+     */
+    private CodedAction(Action action, SymbolTable lexicon) {
+        this.lexicon = lexicon;
+        this.verbPhrase = CodedVerbPhrase.of(action.getVerbPhrase(), lexicon);
+        this.directObjectPhrase = CodedObjectPhrase.of(
+                action.getDirectObjectPhrase(), lexicon);
+        this.preposition = Codes.getId(lexicon, action.getPreposition());
+        this.indirectObjectPhrase = CodedObjectPhrase.of(
+                action.getIndirectObjectPhrase(), lexicon);
+    }
+
+    /**
+     * @param action  to code. It is not kept, so later changes to it do not
+     *                change the coded action.
+     * @param lexicon to resolve words to ids with
+     * @return the coded action.
+     */
+    public static CodedAction of(Action action, SymbolTable lexicon) {
+        return new CodedAction(action, lexicon);
+    }
+
+    /**
+     * @return the coded verb phrase, or null if there is none.
+     */
+    public CodedVerbPhrase getVerbPhrase() {
+        return verbPhrase;
+    }
+
+    /**
+     * @return the id of the verb, or {@link SymbolTable#NO_ID} if there is
+     * none.
+     */
+    public int getVerb() {
+        return verbPhrase == null ? SymbolTable.NO_ID : verbPhrase.getVerb();
+    }
+
+    /**
+     * @return the verb as it is in the lexicon, or null if there is none or
+     * it is not in the lexicon.
+     */
+    public String getVerbSymbol() {
+        return Codes.getSymbol(lexicon, getVerb());
+    }
+
+    /**
+     * @return the coded direct object phrase, or null if there is none.
+     */
+    public CodedObjectPhrase getDirectObjectPhrase() {
+        return directObjectPhrase;
+    }
+
+    /**
+     * @return the id of the preposition between the direct and indirect
+     * object phrases.
+     */
+    public int getPreposition() {
+        return preposition;
+    }
+
+    /**
+     * @return the preposition as it is in the lexicon, or null if there is
+     * none or it is not in the lexicon.
+     */
+    public String getPrepositionSymbol() {
+        return Codes.getSymbol(lexicon, preposition);
+    }
+
+    /**
+     * @return the coded indirect object phrase, or null if there is none.
+     */
+    public CodedObjectPhrase getIndirectObjectPhrase() {
+        return indirectObjectPhrase;
+    }
+
+    /**
+     * @param other to compare
+     * @return true if the other coded action has equal coded phrases and the
+     * same preposition id.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof CodedAction) {
+            CodedAction codedAction = (CodedAction) other;
+            return preposition == codedAction.preposition
+                    && Objects.equals(verbPhrase, codedAction.verbPhrase)
+                    && Objects.equals(directObjectPhrase,
+                    codedAction.directObjectPhrase)
+                    && Objects.equals(indirectObjectPhrase,
+                    codedAction.indirectObjectPhrase);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(verbPhrase, directObjectPhrase, preposition,
+                indirectObjectPhrase);
+    }
+
+    @Override
+    public String toString() {
+        return "[verbPhrase: " + verbPhrase
+                + ", directObjectPhrase: " + directObjectPhrase
+                + ", preposition: " + preposition
+                + ", indirectObjectPhrase: " + indirectObjectPhrase
+                + "]";
+    }
+}
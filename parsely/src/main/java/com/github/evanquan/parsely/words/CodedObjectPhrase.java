@@ -0,0 +1,223 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * An {@link ObjectPhrase} with each of its words resolved to an int id in a
+ * lexicon, so that game logic can compare and switch on ids rather than
+ * strings. Words that are not in the lexicon have the id
+ * {@link SymbolTable#NO_ID}, as do missing words.
+ * <p>
+ * Like {@link CodedAction}, it only keeps the ids and the lexicon, and its
+ * words are resolved back to strings through the lexicon when they are
+ * requested. Coded object phrases cannot be modified.
+ *
+ * @author Evan Quan
+ */
+public final class CodedObjectPhrase {
+
+    private final SymbolTable lexicon;
+    private final int determiner;
+    private final int[] adjectives;
+    private final int noun;
+    private final int preposition;
+    private final CodedObjectPhrase owner;
+    private final boolean truncated;
+    private final int hash;
+
+    /**
+     * @param objectPhrase to code, without its owner
+     * @param owner        already coded owner of objectPhrase
+     * @param lexicon      to resolve words to ids with
+     */
+    private CodedObjectPhrase(ObjectPhrase objectPhrase,
+                              CodedObjectPhrase owner, SymbolTable lexicon) {
+        this.lexicon = lexicon;
+        this.determiner = Codes.getId(lexicon, objectPhrase.getDeterminer());
+        this.adjectives = new int[objectPhrase.getAdjectiveCount()];
+        for (int i = 0; i < adjectives.length; i++) {
+            adjectives[i] = Codes.getId(lexicon, objectPhrase.getAdjective(i));
+        }
+        this.noun = Codes.getId(lexicon, objectPhrase.getNoun());
+        this.preposition = Codes.getId(lexicon, objectPhrase.getPreposition());
+        this.owner = owner;
+        this.truncated = objectPhrase.isTruncated();
+        // Owners are coded first, so their hash is already known.
+        int hash = determiner;
+        hash = 31 * hash + Arrays.hashCode(adjectives);
+        hash = 31 * hash + noun;
+        hash = 31 * hash + preposition;
+        hash = 31 * hash + Boolean.hashCode(truncated);
+        this.hash = 31 * hash + (owner == null ? 0 : owner.hash);
+    }
+
+    /**
+     * Owners are coded iteratively, so object phrases with many owners can
+     * be coded without running out of stack.
+     *
+     * @param objectPhrase to code along with its owners. It is not kept, so
+     *                     later changes to it do not change the coded object
+     *                     phrase.
+     * @param lexicon      to resolve words to ids with
+     * @return the coded object phrase, or null if objectPhrase is null.
+     */
+    public static CodedObjectPhrase of(ObjectPhrase objectPhrase,
+                                       SymbolTable lexicon) {
+        if (objectPhrase == null) {
+            return null;
+        }
+        ArrayList<ObjectPhrase> owners = new ArrayList<>();
+        for (ObjectPhrase owner = objectPhrase; owner != null;
+             owner = owner.getOwner()) {
+            owners.add(owner);
+        }
+        CodedObjectPhrase coded = null;
+        for (int i = owners.size() - 1; i >= 0; i--) {
+            coded = new CodedObjectPhrase(owners.get(i), coded, lexicon);
+        }
+        return coded;
+    }
+
+    /**
+     * @return the id of the determiner.
+     */
+    public int getDeterminer() {
+        return determiner;
+    }
+
+    /**
+     * @return the determiner as it is in the lexicon, or null if there is
+     * none or it is not in the lexicon.
+     */
+    public String getDeterminerSymbol() {
+        return Codes.getSymbol(lexicon, determiner);
+    }
+
+    /**
+     * @return the number of adjectives.
+     */
+    public int getAdjectiveCount() {
+        return adjectives.length;
+    }
+
+    /**
+     * @param index of adjective
+     * @return the id of the adjective.
+     * @throws IndexOutOfBoundsException if there is no adjective at index
+     */
+    public int getAdjective(int index) {
+        return adjectives[index];
+    }
+
+    /**
+     * @param index of adjective
+     * @return the adjective as it is in the lexicon, or null if it is not in
+     * the lexicon.
+     * @throws IndexOutOfBoundsException if there is no adjective at index
+     */
+    public String getAdjectiveSymbol(int index) {
+        return Codes.getSymbol(lexicon, adjectives[index]);
+    }
+
+    /**
+     * @return a copy of the ids of the adjectives, in order.
+     */
+    public int[] getAdjectives() {
+        return adjectives.clone();
+    }
+
+    /**
+     * @return the id of the noun.
+     */
+    public int getNoun() {
+        return noun;
+    }
+
+    /**
+     * @return the noun as it is in the lexicon, or null if there is none or
+     * it is not in the lexicon.
+     */
+    public String getNounSymbol() {
+        return Codes.getSymbol(lexicon, noun);
+    }
+
+    /**
+     * @return the id of the belonging preposition.
+     */
+    public int getPreposition() {
+        return preposition;
+    }
+
+    /**
+     * @return the belonging preposition as it is in the lexicon, or null if
+     * there is none or it is not in the lexicon.
+     */
+    public String getPrepositionSymbol() {
+        return Codes.getSymbol(lexicon, preposition);
+    }
+
+    /**
+     * @return the coded owner, or null if there is none.
+     */
+    public CodedObjectPhrase getOwner() {
+        return owner;
+    }
+
+    /**
+     * @return true if the owners of the object phrase were cut off for being
+     * too deep.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Owners are compared iteratively, so object phrases with many owners can
+     * be compared without running out of stack.
+     *
+     * @param other phrase to compare equality with.
+     * @return true if the ids of all words, the owners and truncation are
+     * equal for both coded object phrases.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof CodedObjectPhrase)) {
+            return false;
+        }
+        CodedObjectPhrase phrase = this;
+        CodedObjectPhrase otherPhrase = (CodedObjectPhrase) other;
+        while (phrase != otherPhrase) {
+            if (phrase == null || otherPhrase == null
+                    || phrase.hash != otherPhrase.hash
+                    || phrase.determiner != otherPhrase.determiner
+                    || !Arrays.equals(phrase.adjectives, otherPhrase.adjectives)
+                    || phrase.noun != otherPhrase.noun
+                    || phrase.preposition != otherPhrase.preposition
+                    || phrase.truncated != otherPhrase.truncated) {
+                return false;
+            }
+            phrase = phrase.owner;
+            otherPhrase = otherPhrase.owner;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "[determiner: " + determiner
+                + " adjectives: " + Arrays.toString(adjectives)
+                + " noun: " + noun
+                + " preposition: " + preposition
+                + (owner == null ? "" : " owner: " + owner)
+                + (isTruncated() ? " truncated" : "")
+                + "]";
+    }
+}
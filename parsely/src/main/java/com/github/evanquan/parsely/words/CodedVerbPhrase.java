@@ -0,0 +1,120 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+
+import java.util.Arrays;
+
+/**
+ * A {@link VerbPhrase} with each of its words resolved to an int id in a
+ * lexicon, so that game logic can compare and switch on ids rather than
+ * strings. Words that are not in the lexicon have the id
+ * {@link SymbolTable#NO_ID}, as do missing words.
+ * <p>
+ * Like {@link CodedAction}, it only keeps the ids and the lexicon, and its
+ * words are resolved back to strings through the lexicon when they are
+ * requested. Coded verb phrases cannot be modified.
+ *
+ * @author Evan Quan
+ */
+public final class CodedVerbPhrase {
+
+    private final SymbolTable lexicon;
+    private final int[] adverbs;
+    private final int verb;
+
+    /**
+     * @param verbPhrase to code
+     * @param lexicon    to resolve words to ids with
+     */
+    private CodedVerbPhrase(VerbPhrase verbPhrase, SymbolTable lexicon) {
+        this.lexicon = lexicon;
+        this.adverbs = Codes.getIds(lexicon, verbPhrase.adverbs());
+        this.verb = Codes.getId(lexicon, verbPhrase.getVerb());
+    }
+
+    /**
+     * @param verbPhrase to code. It is not kept, so later changes to it do
+     *                   not change the coded verb phrase.
+     * @param lexicon    to resolve words to ids with
+     * @return the coded verb phrase, or null if verbPhrase is null.
+     */
+    public static CodedVerbPhrase of(VerbPhrase verbPhrase,
+                                     SymbolTable lexicon) {
+        return verbPhrase == null ? null
+                : new CodedVerbPhrase(verbPhrase, lexicon);
+    }
+
+    /**
+     * @return the number of adverbs.
+     */
+    public int getAdverbCount() {
+        return adverbs.length;
+    }
+
+    /**
+     * @param index of adverb
+     * @return the id of the adverb.
+     * @throws IndexOutOfBoundsException if there is no adverb at index
+     */
+    public int getAdverb(int index) {
+        return adverbs[index];
+    }
+
+    /**
+     * @param index of adverb
+     * @return the adverb as it is in the lexicon, or null if it is not in
+     * the lexicon.
+     * @throws IndexOutOfBoundsException if there is no adverb at index
+     */
+    public String getAdverbSymbol(int index) {
+        return Codes.getSymbol(lexicon, adverbs[index]);
+    }
+
+    /**
+     * @return a copy of the ids of the adverbs, in order.
+     */
+    public int[] getAdverbs() {
+        return adverbs.clone();
+    }
+
+    /**
+     * @return the id of the verb.
+     */
+    public int getVerb() {
+        return verb;
+    }
+
+    /**
+     * @return the verb as it is in the lexicon, or null if there is none or
+     * it is not in the lexicon.
+     */
+    public String getVerbSymbol() {
+        return Codes.getSymbol(lexicon, verb);
+    }
+
+    /**
+     * @param other phrase to compare equality with.
+     * @return true if the ids of the adverbs and verb are equal for both
+     * coded verb phrases.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof CodedVerbPhrase) {
+            CodedVerbPhrase phrase = (CodedVerbPhrase) other;
+            return verb == phrase.verb
+                    && Arrays.equals(adverbs, phrase.adverbs);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(adverbs) + verb;
+    }
+
+    @Override
+    public String toString() {
+        return "[adverbs: " + Arrays.toString(adverbs) + " verb: " + verb
+                + "]";
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+
+import java.util.List;
+
+/**
+ * Resolves the words of parsed phrases to their ids in a lexicon.
+ *
+ * @author Evan Quan
+ */
+final class Codes {
+
+    private static final int[] NO_IDS = new int[0];
+
+    /**
+     * Cannot instantiate.
+     */
+    private Codes() {
+    }
+
+    /**
+     * Words keep the case they were entered with, so words with upper case
+     * letters that are not in the lexicon are looked up again in lower case.
+     * Neither lookup copies the word.
+     *
+     * @param lexicon to look up the word in
+     * @param word    to get the id of, or null
+     * @return the id of the word in the lexicon, or {@link SymbolTable#NO_ID}
+     * if it is null or not in the lexicon.
+     */
+    static int getId(SymbolTable lexicon, String word) {
+        if (word == null) {
+            return SymbolTable.NO_ID;
+        }
+        int id = lexicon.getId(word);
+        if (id == SymbolTable.NO_ID && hasUpperCase(word)) {
+            id = lexicon.getLowerCaseId(word);
+        }
+        return id;
+    }
+
+    /**
+     * @param word to check
+     * @return true if any char of the word changes when lower cased.
+     */
+    private static boolean hasUpperCase(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.toLowerCase(c) != c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param lexicon the id was resolved with
+     * @param id      of a word, or {@link SymbolTable#NO_ID}
+     * @return the word with the id in the lexicon, or null if the id is
+     * {@link SymbolTable#NO_ID}.
+     */
+    static String getSymbol(SymbolTable lexicon, int id) {
+        return id == SymbolTable.NO_ID ? null : lexicon.getSymbol(id);
+    }
+
+    /**
+     * @param lexicon to look up the words in
+     * @param words   to get the ids of, or null
+     * @return the ids of the words in the same order, as by
+     * {@link #getId(SymbolTable, String)}.
+     */
+    static int[] getIds(SymbolTable lexicon, List<String> words) {
+        if (words == null || words.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] ids = new int[words.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = getId(lexicon, words.get(i));
+        }
+        return ids;
+    }
+}
@@ -3,6 +3,10 @@ package com.github.evanquan.parsely.words;
 import com.github.evanquan.parsely.util.FuncUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a command that the player has issued to the game in a form of a
@@ -23,6 +27,13 @@ public class Command {
      */
     private String string;
 
+    /**
+     * Creates a command whose components are kept by an {@link Immutable}
+     * command instead.
+     */
+    private Command() {
+    }
+
     /**
      *
      * @param string input string representation of the command.
@@ -52,7 +63,7 @@ public class Command {
      * contains the specified action.
      */
     public boolean contains(Action action) {
-        return this.actions.contains(action);
+        return actions().contains(action);
     }
 
     /**
@@ -69,20 +80,58 @@ public class Command {
         return false;
     }
 
+    /**
+     * @return a hash code consistent with {@link #equals(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(getString())
+                + Objects.hashCode(actions());
+    }
+
     /**
      * @return true if this command represents an empty string.
      */
     public boolean isEmpty() {
-        return this.string.isEmpty();
+        return getString().isEmpty();
+    }
+
+    /**
+     * Immutable commands can be shared, such as by caches, and between
+     * threads. The actions are copied, so later changes to the actions of
+     * this command do not change the immutable command.
+     *
+     * @return an immutable command with immutable copies of the actions of
+     * this command, or this command if it is already immutable.
+     */
+    public Command toImmutable() {
+        return new Immutable(getString(), actions());
     }
 
     /**
-     * @return all the actions that this command represents.
+     * @return true if this command cannot be modified, as it is
+     * {@link #toImmutable() immutable}.
+     */
+    public boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * @return all the actions that this command represents. If this command is
+     * immutable, this is a copy.
      */
     public ArrayList<Action> getActions() {
         return this.actions;
     }
 
+    /**
+     * @return the actions of this command without copying them. If this
+     * command is immutable, this cannot be modified.
+     */
+    List<Action> actions() {
+        return this.actions;
+    }
+
     /**
      * Get the input string that represents this command. This is different from
      * toString(), which gives a detailed representation of all components of
@@ -101,7 +150,7 @@ public class Command {
      * @return true if this command contains at least one action.
      */
     public boolean hasActions() {
-        return !this.actions.isEmpty();
+        return !actions().isEmpty();
     }
 
     /**
@@ -110,7 +159,7 @@ public class Command {
      * @NOTE unused
      */
     private boolean hasSameActions(Command other) {
-        return FuncUtils.nullablesEqual(this.actions, other.getActions());
+        return FuncUtils.nullablesEqual(actions(), other.actions());
     }
 
     /**
@@ -120,7 +169,7 @@ public class Command {
      * @NOTE unused
      */
     private boolean hasSameString(Command other) {
-        return FuncUtils.nullablesEqual(this.string, other.getString());
+        return FuncUtils.nullablesEqual(getString(), other.getString());
     }
 
     /**
@@ -131,12 +180,72 @@ public class Command {
     public String toString() {
         StringBuilder actions = new StringBuilder();
         if (hasActions()) {
-            for (Action action : this.actions) {
+            for (Action action : actions()) {
                 actions.append("\t\t").append(action).append(System.lineSeparator());
             }
         }
-        return "[string: " + string + System.lineSeparator() +
-                "\tactions[" + this.actions.size() + "]" + System.lineSeparator()
+        return "[string: " + getString() + System.lineSeparator() +
+                "\tactions[" + actions().size() + "]" + System.lineSeparator()
                 + actions + "]";
     }
+
+    /**
+     * A command whose components are final and whose actions are
+     * immutable, so it can be shared between threads without
+     * synchronization.
+     */
+    private static final class Immutable extends Command {
+
+        private final String string;
+        /**
+         * Unmodifiable.
+         */
+        private final List<Action> actions;
+        private final int hash;
+
+        /**
+         * @param string  to set
+         * @param actions to set immutable copies of
+         */
+        Immutable(String string, List<Action> actions) {
+            this.string = string;
+            Action[] immutableActions = new Action[actions.size()];
+            for (int i = 0; i < immutableActions.length; i++) {
+                immutableActions[i] = actions.get(i).toImmutable();
+            }
+            this.actions = Collections.unmodifiableList(
+                    Arrays.asList(immutableActions));
+            this.hash = super.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public Command toImmutable() {
+            return this;
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return true;
+        }
+
+        @Override
+        public ArrayList<Action> getActions() {
+            return new ArrayList<>(actions);
+        }
+
+        @Override
+        List<Action> actions() {
+            return actions;
+        }
+
+        @Override
+        public String getString() {
+            return string;
+        }
+    }
 }
@@ -0,0 +1,679 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.CollectionUtils;
+import com.github.evanquan.parsely.util.FuncUtils;
+import com.github.evanquan.parsely.util.TextUtils;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Object phrases describe an object, or noun. They conform to the following
+ * grammar:
+ * <br><br>
+ * Determiner? Adjective* Noun? (preposition ObjectPhrase?)?
+ *
+ * @author Evan Quan
+ */
+public class ObjectPhrase {
+
+    /**
+     * Signifies that the determiner is not a number.
+     */
+    private static final long NO_QUANTITY = -1;
+
+    /**
+     * Shared by all immutable object phrases without adjectives, which most
+     * object phrases are.
+     */
+    private static final String[] NO_ADJECTIVES = new String[0];
+
+    private String determiner;
+    /**
+     * The value of the determiner if it is a number, otherwise NO_QUANTITY.
+     */
+    private long quantity = NO_QUANTITY;
+    /**
+     * Null until adjectives are set or requested, as most object phrases
+     * have none.
+     */
+    private ArrayList<String> adjectives;
+    private String noun;
+    private String preposition;
+    private ObjectPhrase owner;
+    /**
+     * True if owners were ignored for being too deep.
+     */
+    private boolean truncated;
+
+    /**
+     * Default constructor. Initializes empty adjectives array. All other fields
+     * are empty.
+     */
+    public ObjectPhrase() {
+    }
+
+    /**
+     * Owners are compared iteratively, so object phrases with many owners can
+     * be compared without running out of stack.
+     *
+     * @param other phrase to compare equality with.
+     * @return true if the article, adjective, noun, preposition, owner and
+     * truncation are equal for both object phrases.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ObjectPhrase)) {
+            return false;
+        }
+        ObjectPhrase phrase = this;
+        ObjectPhrase otherPhrase = (ObjectPhrase) other;
+        while (phrase != otherPhrase) {
+            if (phrase == null || otherPhrase == null
+                    || (phrase.isImmutable() && otherPhrase.isImmutable()
+                    && phrase.hashCode() != otherPhrase.hashCode())
+                    || !phrase.hasSameDeterminer(otherPhrase)
+                    || !phrase.hasSameAdjectives(otherPhrase)
+                    || !phrase.hasSameNoun(otherPhrase)
+                    || !phrase.hasSamePreposition(otherPhrase)
+                    || phrase.isTruncated() != otherPhrase.isTruncated()) {
+                return false;
+            }
+            phrase = phrase.getOwner();
+            otherPhrase = otherPhrase.getOwner();
+        }
+        return true;
+    }
+
+    /**
+     * Owners are hashed iteratively, stopping at the first immutable owner,
+     * whose hash code is already known.
+     *
+     * @return a hash code consistent with {@link #equals(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        int multiplier = 1;
+        for (ObjectPhrase phrase = this; phrase != null;
+             phrase = phrase.getOwner()) {
+            if (phrase.isImmutable()) {
+                hash += multiplier * phrase.hashCode();
+                break;
+            }
+            hash += multiplier * hashComponents(phrase);
+            multiplier *= 31;
+        }
+        return hash;
+    }
+
+    /**
+     * @param phrase to hash
+     * @return the hash code of the components of the object phrase, other
+     * than its owner.
+     */
+    private static int hashComponents(ObjectPhrase phrase) {
+        int hash = Objects.hashCode(phrase.getDeterminer());
+        int adjectivesHash = 1;
+        for (int i = 0; i < phrase.getAdjectiveCount(); i++) {
+            adjectivesHash = 31 * adjectivesHash
+                    + Objects.hashCode(phrase.getAdjective(i));
+        }
+        hash = 31 * hash + adjectivesHash;
+        hash = 31 * hash + Objects.hashCode(phrase.getNoun());
+        hash = 31 * hash + Objects.hashCode(phrase.getPreposition());
+        return 31 * hash + Boolean.hashCode(phrase.isTruncated());
+    }
+
+    /**
+     * Immutable object phrases can be shared, such as by caches, and between
+     * threads. Owners are copied iteratively, up to the first owner that is
+     * already immutable, which is shared.
+     *
+     * @return an immutable object phrase with the same components as this
+     * object phrase and immutable owners, or this object phrase if it is
+     * already immutable.
+     */
+    public ObjectPhrase toImmutable() {
+        ArrayList<ObjectPhrase> phrases = new ArrayList<>();
+        ObjectPhrase owner = this;
+        while (owner != null && !owner.isImmutable()) {
+            phrases.add(owner);
+            owner = owner.getOwner();
+        }
+        // Owners are copied first, as they cannot be set afterwards.
+        for (int i = phrases.size() - 1; i >= 0; i--) {
+            ObjectPhrase phrase = phrases.get(i);
+            String[] adjectives = new String[phrase.getAdjectiveCount()];
+            for (int j = 0; j < adjectives.length; j++) {
+                adjectives[j] = phrase.getAdjective(j);
+            }
+            owner = new Immutable(phrase.getDeterminer(),
+                    phrase.getQuantity(), adjectives, phrase.getNoun(),
+                    phrase.getPreposition(), owner, phrase.isTruncated());
+        }
+        return owner;
+    }
+
+    /**
+     * @return true if this object phrase cannot be modified, as it was
+     * {@link Builder#build() built} or is {@link #toImmutable() immutable}.
+     */
+    public boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * @return the list of adjectives this object phrase has. If this object
+     * phrase is immutable, this is a copy. Use {@link #getAdjectiveCount()}
+     * and {@link #getAdjective(int)} to read them without copying.
+     */
+    public ArrayList<String> getAdjectives() {
+        if (this.adjectives == null) {
+            this.adjectives = new ArrayList<>();
+        }
+        return this.adjectives;
+    }
+
+    /**
+     * @return the number of adjectives this object phrase has.
+     */
+    public int getAdjectiveCount() {
+        return this.adjectives == null ? 0 : this.adjectives.size();
+    }
+
+    /**
+     * @param index of adjective
+     * @return the adjective at index.
+     * @throws IndexOutOfBoundsException if there is no adjective at index
+     */
+    public String getAdjective(int index) {
+        if (this.adjectives == null) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return this.adjectives.get(index);
+    }
+
+    /**
+     * @param adjectives to set for this object phrase. If null, there are no
+     *                   adjectives.
+     */
+    public void setAdjectives(ArrayList<String> adjectives) {
+        this.adjectives = adjectives;
+    }
+
+    /**
+     * The adjectives are copied, so later changes to them do not change this
+     * object phrase.
+     *
+     * @param adjectives to set. If null, there are no adjectives.
+     */
+    public void setAdjectives(String[] adjectives) {
+        this.adjectives = adjectives == null ? null
+                : CollectionUtils.getArrayList(adjectives);
+    }
+
+    /**
+     * @param adjectives to copy
+     * @return the adjectives as an array, which is shared if empty.
+     */
+    private static String[] toArray(ArrayList<String> adjectives) {
+        return adjectives.isEmpty() ? NO_ADJECTIVES
+                : adjectives.toArray(NO_ADJECTIVES);
+    }
+
+    /**
+     * @return this object phrase's determiner.
+     */
+    public String getDeterminer() {
+        return this.determiner;
+    }
+
+    /**
+     * If the determiner is a number, its value is also set as this object
+     * phrase's quantity.
+     *
+     * @param determiner to set
+     */
+    public void setDeterminer(String determiner) {
+        this.determiner = determiner;
+        this.quantity = getQuantity(determiner);
+    }
+
+    /**
+     * @param determiner of an object phrase
+     * @return the value of the determiner if it is a number, otherwise
+     * NO_QUANTITY.
+     */
+    private static long getQuantity(String determiner) {
+        return determiner != null && TextUtils.isInteger(determiner) ?
+                TextUtils.getIntegerValue(determiner) : NO_QUANTITY;
+    }
+
+    /**
+     * Numbers that are too large to be a long are {@link Long#MAX_VALUE}.
+     *
+     * @return the value of this object phrase's determiner if it is a
+     * number, otherwise -1. For example, "3" in "take 3 coins".
+     */
+    public long getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * @return this object phrase's noun.
+     */
+    public String getNoun() {
+        return this.noun;
+    }
+
+    /**
+     * A noun is a person, place or thing.
+     *
+     * @param noun to set
+     */
+    public void setNoun(String noun) {
+        this.noun = noun;
+    }
+
+    /**
+     * @return true if this object phrase has adjectives.
+     */
+    public boolean hasAdjectives() {
+        return getAdjectiveCount() != 0;
+    }
+
+    /**
+     * @return this object phrase's preposition.
+     */
+    public String getPreposition() {
+        return this.preposition;
+    }
+
+    /**
+     * Use {@link Word}.isBelongingPreposition() to find valid prepositions.
+     *
+     * @param preposition to set
+     */
+    public void setPreposition(String preposition) {
+        this.preposition = preposition;
+    }
+
+    /**
+     * @return this object phrase's owner.
+     */
+    public ObjectPhrase getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Object phrases can be "owned" by other object phrases.
+     * <br>
+     * <b>Horns of Dirge</b>
+     * <br>
+     * Where the object phrase <b>Horns</b> is owned by <b>Dirge</b>.
+     *
+     * @param owner to set
+     */
+    public void setOwner(ObjectPhrase owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * @return true if this object phrase's owners were cut off because they
+     * went deeper than the parser's maximum owner depth.
+     */
+    public boolean isTruncated() {
+        return this.truncated;
+    }
+
+    /**
+     * @param truncated to set
+     */
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    /**
+     * @return true if this object phrase has a determiner.
+     */
+    public boolean hasDeterminer() {
+        return getDeterminer() != null;
+    }
+
+    /**
+     * @return true if this object phrase's determiner is a number.
+     */
+    public boolean hasQuantity() {
+        return getQuantity() != NO_QUANTITY;
+    }
+
+    /**
+     * @return true if this object phrase has a noun.
+     */
+    public boolean hasNoun() {
+        return getNoun() != null;
+    }
+
+    /**
+     * @return true if this object phrase has a preposition.
+     */
+    public boolean hasPreposition() {
+        return getPreposition() != null;
+    }
+
+    /**
+     * @return true if this object phrase has an owner.
+     */
+    public boolean hasOwner() {
+        return getOwner() != null;
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both object phrases have the same adjectives.
+     */
+    public boolean hasSameAdjectives(ObjectPhrase other) {
+        int count = getAdjectiveCount();
+        if (count != other.getAdjectiveCount()) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (!FuncUtils.nullablesEqual(getAdjective(i),
+                    other.getAdjective(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both object phrases have the same determiner.
+     */
+    public boolean hasSameDeterminer(ObjectPhrase other) {
+        return FuncUtils.nullablesEqual(getDeterminer(), other.getDeterminer());
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both object phrases have the same noun.
+     */
+    public boolean hasSameNoun(ObjectPhrase other) {
+        return FuncUtils.nullablesEqual(getNoun(), other.getNoun());
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both object phrases have the same preposition.
+     */
+    public boolean hasSamePreposition(ObjectPhrase other) {
+        return FuncUtils.nullablesEqual(getPreposition(),
+                other.getPreposition());
+    }
+
+    /**
+     * @param other to compare
+     * @return true if both object phrases have the same owner.
+     */
+    public boolean hasSameOwner(ObjectPhrase other) {
+        return FuncUtils.nullablesEqual(getOwner(), other.getOwner());
+    }
+
+    /**
+     * @return true if this object phrase does not have a determiner, adjectives
+     * and noun.
+     */
+    public boolean isEmpty() {
+        return !hasDeterminer() && !hasAdjectives() && !hasNoun();
+    }
+
+    public String getString() {
+        return String.join(" ", (hasDeterminer() ? getDeterminer() : ""),
+                (hasAdjectives() ? String.join(" ", getAdjectives()) : ""),
+                (hasNoun() ? getNoun() : ""),
+                (hasPreposition() ? getPreposition() : ""),
+                (hasOwner() ? getOwner().getString() : ""));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + String.join(" ",
+                (hasDeterminer() ? "determiner: " + getDeterminer() : ""),
+                (hasAdjectives() ? "adjectives: " + getAdjectives() : ""),
+                (hasNoun() ? "noun: " + getNoun() : ""),
+                (hasPreposition() ? "preposition: " + getPreposition() : ""),
+                (hasOwner() ? "owner: " + getOwner() : ""),
+                (isTruncated() ? "truncated" : "")
+        )
+                + "]";
+    }
+
+    /**
+     * An object phrase whose components are final and whose owners are
+     * immutable, so it can be shared between threads without
+     * synchronization. Its setters throw
+     * {@link UnsupportedOperationException}.
+     */
+    private static final class Immutable extends ObjectPhrase {
+
+        private final String determiner;
+        private final long quantity;
+        /**
+         * Never modified, and not shared with anything that modifies it.
+         */
+        private final String[] adjectives;
+        private final String noun;
+        private final String preposition;
+        private final ObjectPhrase owner;
+        private final boolean truncated;
+        private final int hash;
+
+        /**
+         * @param determiner  to set
+         * @param quantity    of the determiner
+         * @param adjectives  to set, which are not copied
+         * @param noun        to set
+         * @param preposition to set
+         * @param owner       to set, which is immutable or null
+         * @param truncated   to set
+         */
+        Immutable(String determiner, long quantity, String[] adjectives,
+                  String noun, String preposition, ObjectPhrase owner,
+                  boolean truncated) {
+            this.determiner = determiner;
+            this.quantity = quantity;
+            this.adjectives = adjectives.length == 0 ? NO_ADJECTIVES
+                    : adjectives;
+            this.noun = noun;
+            this.preposition = preposition;
+            this.owner = owner;
+            this.truncated = truncated;
+            // Owners are immutable, so their hash codes are already known.
+            this.hash = hashComponents(this)
+                    + 31 * (owner == null ? 0 : owner.hashCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public ObjectPhrase toImmutable() {
+            return this;
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return true;
+        }
+
+        @Override
+        public ArrayList<String> getAdjectives() {
+            return CollectionUtils.getArrayList(adjectives);
+        }
+
+        @Override
+        public int getAdjectiveCount() {
+            return adjectives.length;
+        }
+
+        @Override
+        public String getAdjective(int index) {
+            return adjectives[index];
+        }
+
+        @Override
+        public void setAdjectives(ArrayList<String> adjectives) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+
+        @Override
+        public void setAdjectives(String[] adjectives) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+
+        @Override
+        public String getDeterminer() {
+            return determiner;
+        }
+
+        @Override
+        public void setDeterminer(String determiner) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+
+        @Override
+        public long getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public String getNoun() {
+            return noun;
+        }
+
+        @Override
+        public void setNoun(String noun) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+
+        @Override
+        public String getPreposition() {
+            return preposition;
+        }
+
+        @Override
+        public void setPreposition(String preposition) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+
+        @Override
+        public ObjectPhrase getOwner() {
+            return owner;
+        }
+
+        @Override
+        public void setOwner(ObjectPhrase owner) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public void setTruncated(boolean truncated) {
+            throw new UnsupportedOperationException(
+                    "Immutable object phrases cannot be modified");
+        }
+    }
+
+    /**
+     * Collects the components of an {@link ObjectPhrase} and builds it
+     * immutable. Builders can be reused, as each built object phrase has its
+     * own copy of the adjectives.
+     */
+    public static final class Builder {
+
+        private String determiner;
+        private final ArrayList<String> adjectives = new ArrayList<>();
+        private String noun;
+        private String preposition;
+        private ObjectPhrase owner;
+        private boolean truncated;
+
+        /**
+         * @param determiner to set
+         * @return this builder
+         */
+        public Builder setDeterminer(String determiner) {
+            this.determiner = determiner;
+            return this;
+        }
+
+        /**
+         * @param adjective to add after the current adjectives
+         * @return this builder
+         */
+        public Builder addAdjective(String adjective) {
+            adjectives.add(adjective);
+            return this;
+        }
+
+        /**
+         * @param noun to set
+         * @return this builder
+         */
+        public Builder setNoun(String noun) {
+            this.noun = noun;
+            return this;
+        }
+
+        /**
+         * @param preposition to set
+         * @return this builder
+         */
+        public Builder setPreposition(String preposition) {
+            this.preposition = preposition;
+            return this;
+        }
+
+        /**
+         * @param owner to set. An immutable copy of it is set when the object
+         *              phrase is built.
+         * @return this builder
+         */
+        public Builder setOwner(ObjectPhrase owner) {
+            this.owner = owner;
+            return this;
+        }
+
+        /**
+         * @param truncated to set
+         * @return this builder
+         */
+        public Builder setTruncated(boolean truncated) {
+            this.truncated = truncated;
+            return this;
+        }
+
+        /**
+         * @return an immutable object phrase with the components of this
+         * builder.
+         */
+        public ObjectPhrase build() {
+            return new Immutable(determiner, getQuantity(determiner),
+                    toArray(adjectives), noun, preposition,
+                    owner == null ? null : owner.toImmutable(), truncated);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.util.FuncUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Verb phrases describe a verb. It is composed of any number of adverbs, ending
+ * a verb. Verb phrases conform to the following grammar:
+ * <br><br>
+ * Adverb* Verb?
+ *
+ * @author Evan Quan
+ */
+public class VerbPhrase {
+
+    /**
+     * A list of words that describe the verb.
+     */
+    private ArrayList<String> adverbs;
+
+    /**
+     * A words that describes an action.
+     */
+    private String verb;
+
+    /**
+     * Default constructor. Initializes an empty adverbs ArrayList.
+     */
+    public VerbPhrase() {
+        this(new ArrayList<>(), null);
+    }
+
+    /**
+     * Constructor to set the verb for this {@link VerbPhrase}.
+     *
+     * @param verb to set
+     */
+    public VerbPhrase(String verb) {
+        this(new ArrayList<>(), verb);
+    }
+
+    /**
+     * @param adverbs to set
+     * @param verb    to set
+     */
+    private VerbPhrase(ArrayList<String> adverbs, String verb) {
+        this.adverbs = adverbs;
+        this.verb = verb;
+    }
+
+    /**
+     * @param other phrase to compare equality with.
+     * @return true if the article, adjective, and noun are equal for both
+     * object phrases.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof VerbPhrase) {
+            return hasSameAdverbs((VerbPhrase) other)
+                    && hasSameVerb((VerbPhrase) other);
+        }
+        return false;
+    }
+
+    /**
+     * @return a hash code consistent with {@link #equals(Object)}.
+     */
+    @Override
+    public int hashCode() {
+        return hash(adverbs(), getVerb());
+    }
+
+    /**
+     * @param adverbs of a verb phrase
+     * @param verb    of a verb phrase
+     * @return the hash code of a verb phrase with the adverbs and verb.
+     */
+    private static int hash(List<String> adverbs, String verb) {
+        return 31 * Objects.hashCode(adverbs) + Objects.hashCode(verb);
+    }
+
+    /**
+     * Immutable verb phrases can be shared, such as by caches, and between
+     * threads.
+     *
+     * @return an immutable verb phrase with the same components as this verb
+     * phrase, or this verb phrase if it is already immutable.
+     */
+    public VerbPhrase toImmutable() {
+        return new Immutable(adverbs(), getVerb());
+    }
+
+    /**
+     * @return true if this verb phrase cannot be modified, as it was
+     * {@link Builder#build() built} or is {@link #toImmutable() immutable}.
+     */
+    public boolean isImmutable() {
+        return false;
+    }
+
+    /**
+     * @return the list of adverbs this verb phrase has. If this verb phrase is
+     * immutable, this is a copy.
+     */
+    public ArrayList<String> getAdverbs() {
+        return this.adverbs;
+    }
+
+    /**
+     * @return the adverbs of this verb phrase without copying them. If this
+     * verb phrase is immutable, this cannot be modified.
+     */
+    List<String> adverbs() {
+        return this.adverbs;
+    }
+
+    /**
+     * @param adverbs to set for this verb phrase.
+     */
+    public void setAdverbs(ArrayList<String> adverbs) {
+        this.adverbs = adverbs;
+    }
+
+    /**
+     * @return the verb that this verb phrase represents.
+     */
+    public String getVerb() {
+        return this.verb;
+    }
+
+    /**
+     * @param verb to set for this verb phrase.
+     */
+    public void setVerb(String verb) {
+        this.verb = verb;
+    }
+
+    /**
+     * @return true if this verb phrase has at least one adverb.
+     */
+    public boolean hasAdverbs() {
+        return !adverbs().isEmpty();
+    }
+
+    /**
+     * @return true if this verb phrase has a verb.
+     */
+    public boolean hasVerb() {
+        return getVerb() != null;
+    }
+
+    /**
+     * @param other to compare
+     * @return true if the other {@link VerbPhrase} has the same adverbs as this
+     * phrase.
+     */
+    public boolean hasSameAdverbs(VerbPhrase other) {
+        return FuncUtils.nullablesEqual(adverbs(), other.adverbs());
+    }
+
+    /**
+     * @param other to compare
+     * @return ture if the other {@link VerbPhrase} has the same verb as this
+     * phrase.
+     */
+    public boolean hasSameVerb(VerbPhrase other) {
+        return FuncUtils.nullablesEqual(getVerb(), other.getVerb());
+    }
+
+    /**
+     * @return true if this verb phrase does not have a verb.
+     */
+    public boolean isEmpty() {
+        return !hasAdverbs() && !hasVerb();
+    }
+
+    /**
+     * @return the string representation of this command in terms of all its
+     * components.
+     */
+    @Override
+    public String toString() {
+        return "[" + String.join(" ",
+                (hasAdverbs() ? "adverbs: " + adverbs() : ""),
+                (hasVerb() ? "verb: " + getVerb() : "")
+        )
+                + "]";
+    }
+
+    /**
+     * A verb phrase whose components are final, so it can be shared between
+     * threads without synchronization. Its setters throw
+     * {@link UnsupportedOperationException}.
+     */
+    private static final class Immutable extends VerbPhrase {
+
+        private final List<String> adverbs;
+        private final String verb;
+        private final int hash;
+
+        /**
+         * @param adverbs to copy. If null, there are no adverbs.
+         * @param verb    to set
+         */
+        Immutable(List<String> adverbs, String verb) {
+            // The components are kept in final fields instead
+            super(null, null);
+            this.adverbs = adverbs == null || adverbs.isEmpty()
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(new ArrayList<>(adverbs));
+            this.verb = verb;
+            this.hash = hash(this.adverbs, verb);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public VerbPhrase toImmutable() {
+            return this;
+        }
+
+        @Override
+        public boolean isImmutable() {
+            return true;
+        }
+
+        @Override
+        public ArrayList<String> getAdverbs() {
+            return new ArrayList<>(adverbs);
+        }
+
+        @Override
+        List<String> adverbs() {
+            return adverbs;
+        }
+
+        @Override
+        public void setAdverbs(ArrayList<String> adverbs) {
+            throw new UnsupportedOperationException(
+                    "Immutable verb phrases cannot be modified");
+        }
+
+        @Override
+        public String getVerb() {
+            return verb;
+        }
+
+        @Override
+        public void setVerb(String verb) {
+            throw new UnsupportedOperationException(
+                    "Immutable verb phrases cannot be modified");
+        }
+    }
+
+    /**
+     * Collects the components of a {@link VerbPhrase} and builds it
+     * immutable. Builders can be reused, as each built verb phrase has its
+     * own copy of the adverbs.
+     */
+    public static final class Builder {
+
+        private final ArrayList<String> adverbs = new ArrayList<>();
+        private String verb;
+
+        /**
+         * @param adverb to add after the current adverbs
+         * @return this builder
+         */
+        public Builder addAdverb(String adverb) {
+            adverbs.add(adverb);
+            return this;
+        }
+
+        /**
+         * @param verb to set
+         * @return this builder
+         */
+        public Builder setVerb(String verb) {
+            this.verb = verb;
+            return this;
+        }
+
+        /**
+         * @return an immutable verb phrase with the components of this
+         * builder.
+         */
+        public VerbPhrase build() {
+            return new Immutable(adverbs, verb);
+        }
+    }
+}
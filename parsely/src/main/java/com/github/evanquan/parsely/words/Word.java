@@ -1,7 +1,7 @@
 package com.github.evanquan.parsely.words;
 
 import com.github.evanquan.parsely.parser.Parser;
-import com.github.evanquan.parsely.util.CollectionUtils;
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
 import com.github.evanquan.parsely.util.TextUtils;
 
 import java.util.HashSet;
@@ -55,16 +55,6 @@ public class Word {
             = new HashSet<>(
             Set.of("of")
     );
-    /**
-     * All prepositions used to separate object phrases.
-     */
-    private static final HashSet<String> OBJECT_PHRASE_SEPARATING_PREPOSITION
-            = CollectionUtils.mergeHashSets(
-            new HashSet[]{EXCLUDING_PREPOSITIONS,
-                    DIRECTIONAL_PREPOSITIONS,
-                    JOINING_PREPOSITIONS,
-                    MOVEMENT_PREPOSITIONS}
-    );
     /**
      * These sort of determiners do not give information about the quantity of
      * objects they refer to.
@@ -80,13 +70,6 @@ public class Word {
             = new HashSet<>(
             Set.of("my")
     );
-    /**
-     * For creating {@link Command}s, all articles are treated the same.
-     */
-    private static final HashSet<String> ARTICLES
-            = CollectionUtils.mergeHashSets(
-            new HashSet[]{GENERAL_ARTICLES, PLAYER_ARTICLES}
-    );
     /**
      * A type of determiner that quantifies the object phrase. While numerical
      * values directly quantify an object phrase (which is valid), these
@@ -167,27 +150,6 @@ public class Word {
             = new HashSet<>(
             Set.of("die")
     );
-    /**
-     * Intransitive verbs cannot attached to a direct object phrase.
-     */
-    private static final HashSet<String> INTRANSITIVE_VERBS
-            = CollectionUtils.mergeHashSets(
-            new HashSet[]{NON_TERMINATING_INTRANSITIVE_VERBS,
-                    OPTIONALLY_TERMINATING_INTRANSITIVE_VERBS,
-                    TERMINATING_INTRANSITIVE_VERBS
-            }
-    );
-    /**
-     * Verbs are action words.
-     */
-    private static final HashSet<String> VERBS
-            = CollectionUtils.mergeHashSets(
-            new HashSet[]{NON_INDIRECT_TRANSITIVE_VERBS,
-                    OPTIONALLY_INDIRECT_TRANSITIVE_VERBS,
-                    MANDATORY_INDIRECT_TRANSITIVE_VERBS,
-                    INTRANSITIVE_VERBS
-            }
-    );
     /**
      * Action separators separates {@link Command} actions.
      * These are used for receiveInput multi-playerAction stringCommands.
@@ -197,12 +159,135 @@ public class Word {
             Set.of(",", "and", "then", ".")
     );
 
+    /**
+     * Every word of every set above, mapped to the {@link WordClass} flags of
+     * the sets it belongs to. This answers which sets a word belongs to with
+     * one lookup, without creating a lower case copy of the word.
+     */
+    private static final CaseInsensitiveTable WORDS = new CaseInsensitiveTable();
+
+    static {
+        WORDS.addAll(EXCLUDING_PREPOSITIONS, WordClass.EXCLUDING_PREPOSITION);
+        WORDS.addAll(DIRECTIONAL_PREPOSITIONS, WordClass.DIRECTIONAL_PREPOSITION);
+        WORDS.addAll(JOINING_PREPOSITIONS, WordClass.JOINING_PREPOSITION);
+        WORDS.addAll(MOVEMENT_PREPOSITIONS, WordClass.MOVEMENT_PREPOSITION);
+        WORDS.addAll(BELONGING_PREPOSITIONS, WordClass.BELONGING_PREPOSITION);
+        WORDS.addAll(GENERAL_ARTICLES, WordClass.GENERAL_ARTICLE);
+        WORDS.addAll(PLAYER_ARTICLES, WordClass.PLAYER_ARTICLE);
+        WORDS.addAll(QUANTIFIERS, WordClass.QUANTIFIER);
+        WORDS.addAll(ADVERBS, WordClass.KNOWN_ADVERB);
+        WORDS.addAll(NON_INDIRECT_TRANSITIVE_VERBS,
+                WordClass.NON_INDIRECT_TRANSITIVE_VERB);
+        WORDS.addAll(OPTIONALLY_INDIRECT_TRANSITIVE_VERBS,
+                WordClass.OPTIONALLY_INDIRECT_TRANSITIVE_VERB);
+        WORDS.addAll(MANDATORY_INDIRECT_TRANSITIVE_VERBS,
+                WordClass.MANDATORY_INDIRECT_TRANSITIVE_VERB);
+        WORDS.addAll(NON_TERMINATING_INTRANSITIVE_VERBS,
+                WordClass.NON_TERMINATING_INTRANSITIVE_VERB);
+        WORDS.addAll(OPTIONALLY_TERMINATING_INTRANSITIVE_VERBS,
+                WordClass.OPTIONALLY_TERMINATING_INTRANSITIVE_VERB);
+        WORDS.addAll(TERMINATING_INTRANSITIVE_VERBS,
+                WordClass.TERMINATING_INTRANSITIVE_VERB);
+        WORDS.addAll(ACTION_SEPARATORS, WordClass.ACTION_SEPARATOR);
+    }
+
+    // Unmodifiable sets returned by the getters, so they are only built once
+    private static final Set<String> ALL_ACTION_SEPARATORS =
+            union(ACTION_SEPARATORS);
+    private static final Set<String> ALL_ARTICLES =
+            union(GENERAL_ARTICLES, PLAYER_ARTICLES);
+    private static final Set<String> ALL_QUANTIFIERS = union(QUANTIFIERS);
+    private static final Set<String>
+            ALL_OBJECT_PHRASE_SEPARATING_PREPOSITIONS = union(
+            EXCLUDING_PREPOSITIONS, DIRECTIONAL_PREPOSITIONS,
+            JOINING_PREPOSITIONS, MOVEMENT_PREPOSITIONS);
+    private static final Set<String> ALL_BELONGING_PREPOSITIONS =
+            union(BELONGING_PREPOSITIONS);
+    private static final Set<String> ALL_KNOWN_ADVERBS = union(ADVERBS);
+    private static final Set<String> ALL_KNOWN_VERBS = union(
+            NON_INDIRECT_TRANSITIVE_VERBS,
+            OPTIONALLY_INDIRECT_TRANSITIVE_VERBS,
+            MANDATORY_INDIRECT_TRANSITIVE_VERBS,
+            NON_TERMINATING_INTRANSITIVE_VERBS,
+            OPTIONALLY_TERMINATING_INTRANSITIVE_VERBS,
+            TERMINATING_INTRANSITIVE_VERBS);
+
     /**
      * Cannot instantiate.
      */
     private Word() {
     }
 
+    /**
+     * @param sets to combine
+     * @return an unmodifiable set of every word of the sets.
+     */
+    @SafeVarargs
+    private static Set<String> union(Set<String>... sets) {
+        HashSet<String> union = new HashSet<>();
+        for (Set<String> set : sets) {
+            union.addAll(set);
+        }
+        return Set.copyOf(union);
+    }
+
+    /**
+     * @return an unmodifiable set of every word recognized as an action
+     * separator.
+     */
+    public static Set<String> getActionSeparators() {
+        return ALL_ACTION_SEPARATORS;
+    }
+
+    /**
+     * @return an unmodifiable set of every word recognized as an article.
+     */
+    public static Set<String> getArticles() {
+        return ALL_ARTICLES;
+    }
+
+    /**
+     * Numbers are also quantifiers, but are not included.
+     *
+     * @return an unmodifiable set of every word recognized as a quantifier.
+     */
+    public static Set<String> getQuantifiers() {
+        return ALL_QUANTIFIERS;
+    }
+
+    /**
+     * @return an unmodifiable set of every word recognized as a preposition
+     * that separates object phrases.
+     */
+    public static Set<String> getObjectPhraseSeparatingPrepositions() {
+        return ALL_OBJECT_PHRASE_SEPARATING_PREPOSITIONS;
+    }
+
+    /**
+     * @return an unmodifiable set of every word recognized as a belonging
+     * preposition.
+     */
+    public static Set<String> getBelongingPrepositions() {
+        return ALL_BELONGING_PREPOSITIONS;
+    }
+
+    /**
+     * Any word that ends with "ly" is also an adverb, but only known adverbs
+     * are included.
+     *
+     * @return an unmodifiable set of every word recognized as a known adverb.
+     */
+    public static Set<String> getKnownAdverbs() {
+        return ALL_KNOWN_ADVERBS;
+    }
+
+    /**
+     * @return an unmodifiable set of every word recognized as a known verb.
+     */
+    public static Set<String> getKnownVerbs() {
+        return ALL_KNOWN_VERBS;
+    }
+
     /**
      * Action separators are words (or characters) that split a input string
      * from a {@link Command} into multiple {@link Action}s.
@@ -211,8 +296,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid action
      * separator.
      */
-    public static boolean isActionSeparator(String word) {
-        return ACTION_SEPARATORS.contains(word.toLowerCase());
+    public static boolean isActionSeparator(CharSequence word) {
+        return is(word, WordClass.ACTION_SEPARATOR);
     }
 
     /**
@@ -221,8 +306,8 @@ public class Word {
      * @param word to check
      * @return true if the specified words is recognized as a valid article.
      */
-    public static boolean isArticle(String word) {
-        return ARTICLES.contains(word.toLowerCase());
+    public static boolean isArticle(CharSequence word) {
+        return is(word, WordClass.ARTICLE);
     }
 
     /**
@@ -232,8 +317,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid determiner,
      * which is either an article or quantifier.
      */
-    public static boolean isDeterminer(String word) {
-        return isArticle(word.toLowerCase()) || isQuantifier(word.toLowerCase());
+    public static boolean isDeterminer(CharSequence word) {
+        return is(word, WordClass.DETERMINER);
     }
 
     /**
@@ -241,8 +326,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid directional
      * preposition.
      */
-    public static boolean isDirectionalPreposition(String word) {
-        return DIRECTIONAL_PREPOSITIONS.contains(word.toLowerCase());
+    public static boolean isDirectionalPreposition(CharSequence word) {
+        return is(word, WordClass.DIRECTIONAL_PREPOSITION);
     }
 
     /**
@@ -250,8 +335,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid joining
      * preposition.
      */
-    public static boolean isJoiningPreposition(String word) {
-        return JOINING_PREPOSITIONS.contains(word.toLowerCase());
+    public static boolean isJoiningPreposition(CharSequence word) {
+        return is(word, WordClass.JOINING_PREPOSITION);
     }
 
     /**
@@ -259,8 +344,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid movement
      * preposition.
      */
-    public static boolean isMovementPreposition(String word) {
-        return MOVEMENT_PREPOSITIONS.contains(word.toLowerCase());
+    public static boolean isMovementPreposition(CharSequence word) {
+        return is(word, WordClass.MOVEMENT_PREPOSITION);
     }
 
     /**
@@ -271,8 +356,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid preposition
      * for separating object phrases.
      */
-    public static boolean isObjectPhraseSeparatingPreposition(String word) {
-        return OBJECT_PHRASE_SEPARATING_PREPOSITION.contains(word.toLowerCase());
+    public static boolean isObjectPhraseSeparatingPreposition(CharSequence word) {
+        return is(word, WordClass.OBJECT_PHRASE_SEPARATING_PREPOSITION);
     }
 
     /**
@@ -282,9 +367,8 @@ public class Word {
      * @param word to check
      * @return true if the specified words is recognized as a valid quantifier.
      */
-    public static boolean isQuantifier(String word) {
-        return QUANTIFIERS.contains(word.toLowerCase())
-                || TextUtils.isInteger(word.toLowerCase());
+    public static boolean isQuantifier(CharSequence word) {
+        return is(word, WordClass.QUANTIFIER | WordClass.NUMBER);
     }
 
     /**
@@ -294,8 +378,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid belonging
      * preposition.
      */
-    public static boolean isBelongingPreposition(String word) {
-        return BELONGING_PREPOSITIONS.contains(word.toLowerCase());
+    public static boolean isBelongingPreposition(CharSequence word) {
+        return is(word, WordClass.BELONGING_PREPOSITION);
     }
 
     /**
@@ -306,8 +390,8 @@ public class Word {
      * @return true if the specified words is recognized as following the
      * structure of an adverb.
      */
-    public static boolean isAdverb(String word) {
-        return word.toLowerCase().endsWith("ly");
+    public static boolean isAdverb(CharSequence word) {
+        return isAdverb(word, 0, word.length());
     }
 
     /**
@@ -317,8 +401,8 @@ public class Word {
      * @param word to check
      * @return true if the specified words is recognized as a valid adverb.
      */
-    public static boolean isKnownAdverb(String word) {
-        return ADVERBS.contains(word.toLowerCase());
+    public static boolean isKnownAdverb(CharSequence word) {
+        return is(word, WordClass.KNOWN_ADVERB);
     }
 
     /**
@@ -328,8 +412,8 @@ public class Word {
      * @return true if the specified words is recognized as a valid verb.
      */
     @Deprecated
-    public static boolean isVerb(String word) {
-        return VERBS.contains(word.toLowerCase());
+    public static boolean isVerb(CharSequence word) {
+        return is(word, WordClass.KNOWN_VERB);
     }
 
     /**
@@ -340,8 +424,8 @@ public class Word {
      * @param word to check
      * @return true if the specified words is recognized as a valid
      */
-    public static boolean isNonIndirectTransitiveVerb(String word) {
-        return NON_INDIRECT_TRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isNonIndirectTransitiveVerb(CharSequence word) {
+        return is(word, WordClass.NON_INDIRECT_TRANSITIVE_VERB);
     }
 
     /**
@@ -352,8 +436,8 @@ public class Word {
      * @return true if the specified words is recognized as an indirect
      * transitive verb.
      */
-    public static boolean isIndirectTransitiveVerb(String word) {
-        return MANDATORY_INDIRECT_TRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isIndirectTransitiveVerb(CharSequence word) {
+        return is(word, WordClass.MANDATORY_INDIRECT_TRANSITIVE_VERB);
     }
 
     /**
@@ -367,8 +451,8 @@ public class Word {
      * @return true if the specified words is recognized as an optionally
      * indirect transitive verb.
      */
-    public static boolean isOptionallyIndirectTransitiveVerb(String word) {
-        return OPTIONALLY_INDIRECT_TRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isOptionallyIndirectTransitiveVerb(CharSequence word) {
+        return is(word, WordClass.OPTIONALLY_INDIRECT_TRANSITIVE_VERB);
     }
 
     /**
@@ -379,8 +463,8 @@ public class Word {
      * @param word to check
      * @return true if the specified words is an intransitive verb.
      */
-    public static boolean isIntransitiveVerb(String word) {
-        return INTRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isIntransitiveVerb(CharSequence word) {
+        return is(word, WordClass.INTRANSITIVE_VERB);
     }
 
     /**
@@ -392,8 +476,8 @@ public class Word {
      * @return true if the specified words is recognized as an optionally
      * terminating intransitive verb.
      */
-    public static boolean isOptionallyTerminatingIntransitiveVerb(String word) {
-        return OPTIONALLY_TERMINATING_INTRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isOptionallyTerminatingIntransitiveVerb(CharSequence word) {
+        return is(word, WordClass.OPTIONALLY_TERMINATING_INTRANSITIVE_VERB);
     }
 
     /**
@@ -405,8 +489,8 @@ public class Word {
      * @return true if the specified words is recognized as a terminating
      * intransitive verb.
      */
-    public static boolean isTerminatingIntransitiveVerb(String word) {
-        return TERMINATING_INTRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isTerminatingIntransitiveVerb(CharSequence word) {
+        return is(word, WordClass.TERMINATING_INTRANSITIVE_VERB);
     }
 
     /**
@@ -417,7 +501,72 @@ public class Word {
      * @return true if the specified words is recognized as a non-terminating
      * intransitive verb.
      */
-    public static boolean isNonTerminatingIntransitiveVerb(String word) {
-        return NON_TERMINATING_INTRANSITIVE_VERBS.contains(word.toLowerCase());
+    public static boolean isNonTerminatingIntransitiveVerb(CharSequence word) {
+        return is(word, WordClass.NON_TERMINATING_INTRANSITIVE_VERB);
+    }
+
+    /**
+     * Classify a word by every set it belongs to. This does not create any
+     * copies of the word unless it has non-ASCII characters.
+     *
+     * @param word to classify
+     * @return the {@link WordClass} flags of the word. {@link WordClass#VERB}
+     * is never set, as it depends on the verbs a parser knows.
+     */
+    public static int getWordClass(CharSequence word) {
+        return getWordClass(word, 0, word.length());
+    }
+
+    /**
+     * Classify the word input[start, end) by every set it belongs to.
+     *
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return the {@link WordClass} flags of the word. {@link WordClass#VERB}
+     * is never set, as it depends on the verbs a parser knows.
+     */
+    public static int getWordClass(CharSequence input, int start, int end) {
+        int wordClass = WORDS.get(input, start, end);
+        if (isAdverb(input, start, end)) {
+            wordClass |= WordClass.ADVERB;
+        }
+        if (isInteger(input, start, end)) {
+            wordClass |= WordClass.NUMBER;
+        }
+        return wordClass;
+    }
+
+    /**
+     * @param word  to check
+     * @param flags of the {@link WordClass}es to check
+     * @return true if the word belongs to any of the word classes.
+     */
+    private static boolean is(CharSequence word, int flags) {
+        return (getWordClass(word) & flags) != 0;
+    }
+
+    /**
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return true if the word ends with "ly", ignoring case.
+     */
+    private static boolean isAdverb(CharSequence input, int start, int end) {
+        return end - start >= 2
+                && Character.toLowerCase(input.charAt(end - 2)) == 'l'
+                && Character.toLowerCase(input.charAt(end - 1)) == 'y';
+    }
+
+    /**
+     * Numbers are quantifiers.
+     *
+     * @param input containing the word
+     * @param start of the word, inclusive
+     * @param end   of the word, exclusive
+     * @return true if the word is an integer.
+     */
+    private static boolean isInteger(CharSequence input, int start, int end) {
+        return TextUtils.isInteger(input, start, end);
     }
 }
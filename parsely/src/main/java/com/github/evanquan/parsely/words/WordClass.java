@@ -0,0 +1,116 @@
+package com.github.evanquan.parsely.words;
+
+/**
+ * Bit flags for the classes of {@link Word}s. A word is classified once, and
+ * the resulting flags answer every question about which classes the word
+ * belongs to with a bit test.
+ * <p>
+ * A word can belong to multiple classes, such as "look", which is both an
+ * intransitive verb and an optionally terminating intransitive verb.
+ *
+ * @author Evan Quan
+ */
+public final class WordClass {
+
+    /**
+     * Prepositions followed by the indirect object phrases to ignore.
+     */
+    public static final int EXCLUDING_PREPOSITION = 1;
+    /**
+     * Prepositions that situate one object phrase directionally in relation
+     * to another object phrase.
+     */
+    public static final int DIRECTIONAL_PREPOSITION = 1 << 1;
+    /**
+     * Prepositions that connect 2 object phrases together.
+     */
+    public static final int JOINING_PREPOSITION = 1 << 2;
+    /**
+     * Prepositions where the first object phrase is being "verbed" to the
+     * second object phrase.
+     */
+    public static final int MOVEMENT_PREPOSITION = 1 << 3;
+    /**
+     * Prepositions where the first object phrase is "owned by" the second
+     * object phrase.
+     */
+    public static final int BELONGING_PREPOSITION = 1 << 4;
+    /**
+     * Articles that do not give information about quantity.
+     */
+    public static final int GENERAL_ARTICLE = 1 << 5;
+    /**
+     * Articles that refer to objects in the player's possession.
+     */
+    public static final int PLAYER_ARTICLE = 1 << 6;
+    /**
+     * Words that quantify an object phrase, such as "all".
+     */
+    public static final int QUANTIFIER = 1 << 7;
+    /**
+     * Adverbs that the game recognizes as valid.
+     */
+    public static final int KNOWN_ADVERB = 1 << 8;
+    public static final int NON_INDIRECT_TRANSITIVE_VERB = 1 << 9;
+    public static final int OPTIONALLY_INDIRECT_TRANSITIVE_VERB = 1 << 10;
+    public static final int MANDATORY_INDIRECT_TRANSITIVE_VERB = 1 << 11;
+    public static final int NON_TERMINATING_INTRANSITIVE_VERB = 1 << 12;
+    public static final int OPTIONALLY_TERMINATING_INTRANSITIVE_VERB = 1 << 13;
+    public static final int TERMINATING_INTRANSITIVE_VERB = 1 << 14;
+    /**
+     * Words (or characters) that split a {@link Command} into multiple
+     * {@link Action}s.
+     */
+    public static final int ACTION_SEPARATOR = 1 << 15;
+    /**
+     * Words that end with "ly", which are treated as adverbs for parsing.
+     */
+    public static final int ADVERB = 1 << 16;
+    /**
+     * Numbers, which quantify an object phrase.
+     */
+    public static final int NUMBER = 1 << 17;
+    /**
+     * Words that a parser recognizes as verbs. Unlike every other word
+     * class, this depends on the verbs the parser is configured with.
+     */
+    public static final int VERB = 1 << 18;
+
+    /**
+     * All prepositions used to separate object phrases.
+     */
+    public static final int OBJECT_PHRASE_SEPARATING_PREPOSITION
+            = EXCLUDING_PREPOSITION
+            | DIRECTIONAL_PREPOSITION
+            | JOINING_PREPOSITION
+            | MOVEMENT_PREPOSITION;
+    /**
+     * For creating {@link Command}s, all articles are treated the same.
+     */
+    public static final int ARTICLE = GENERAL_ARTICLE | PLAYER_ARTICLE;
+    /**
+     * A determiner is either an article, or a quantifier.
+     */
+    public static final int DETERMINER = ARTICLE | QUANTIFIER | NUMBER;
+    /**
+     * Intransitive verbs cannot attached to a direct object phrase.
+     */
+    public static final int INTRANSITIVE_VERB
+            = NON_TERMINATING_INTRANSITIVE_VERB
+            | OPTIONALLY_TERMINATING_INTRANSITIVE_VERB
+            | TERMINATING_INTRANSITIVE_VERB;
+    /**
+     * Verbs in the built in vocabulary of {@link Word}.
+     */
+    public static final int KNOWN_VERB
+            = NON_INDIRECT_TRANSITIVE_VERB
+            | OPTIONALLY_INDIRECT_TRANSITIVE_VERB
+            | MANDATORY_INDIRECT_TRANSITIVE_VERB
+            | INTRANSITIVE_VERB;
+
+    /**
+     * Cannot instantiate.
+     */
+    private WordClass() {
+    }
+}
@@ -3,10 +3,15 @@ package test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import test.com.github.evanquan.parsely.parser.*;
+import test.com.github.evanquan.parsely.util.CaseInsensitiveTableTest;
 import test.com.github.evanquan.parsely.util.CollectionUtilsTest;
 import test.com.github.evanquan.parsely.util.FuncUtilsTest;
+import test.com.github.evanquan.parsely.util.LatencyHistogramTest;
+import test.com.github.evanquan.parsely.util.SymbolTableTest;
 import test.com.github.evanquan.parsely.util.TextUtilsTest;
+import test.com.github.evanquan.parsely.util.WeakInternerTest;
 import test.com.github.evanquan.parsely.words.ActionTest;
+import test.com.github.evanquan.parsely.words.CodedActionTest;
 import test.com.github.evanquan.parsely.words.ObjectPhraseTest;
 import test.com.github.evanquan.parsely.words.WordTest;
 
@@ -17,17 +22,36 @@ import test.com.github.evanquan.parsely.words.WordTest;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
+        ActionTypeRegistryTest.class,
+        CachingParserTest.class,
+        CaseInsensitiveTableTest.class,
+        CodedActionTest.class,
         CollectionUtilsTest.class,
+        CommandLogReplayerTest.class,
+        CommandStreamTest.class,
         FuncUtilsTest.class,
         ActionTest.class,
+        InterningParserTest.class,
+        LatencyHistogramTest.class,
         Parser_addToken_Test.class,
+        Parser_getAction_Test.class,
         VerbGnosticParser_getObjectPhrase_Test.class,
         Parser_lexicalAnalysis_Test.class,
+        Parser_parseAll_Test.class,
+        Parser_parseAllParallel_Test.class,
+        Lexer_lexicalAnalysis_Test.class,
+        Lexer_tokenize_Test.class,
+        ParserFactoryTest.class,
+        ParseEventTest.class,
+        ParseMetricsTest.class,
+        ValidationEventTest.class,
         VerbGnosticParser_parse_Test.class,
         VerbAgnosticParser_getObjectPhrase_Test.class,
         VerbAgnosticParser_parse_Test.class,
         ObjectPhraseTest.class,
+        SymbolTableTest.class,
         TextUtilsTest.class,
+        WeakInternerTest.class,
         WordTest.class,
 })
 public class _TestSuite {
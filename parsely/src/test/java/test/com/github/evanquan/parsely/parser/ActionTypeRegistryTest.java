@@ -0,0 +1,281 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.ActionType;
+import com.github.evanquan.parsely.parser.ActionTypeRegistry;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.Requirement;
+import com.github.evanquan.parsely.parser.condition.Condition;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory.ObjectPhraseType;
+import com.github.evanquan.parsely.words.Action;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * JUnit 4 tests for {@link ActionTypeRegistry}
+ *
+ * @author Evan Quan
+ */
+public class ActionTypeRegistryTest {
+
+    /**
+     * Requires an indirect object phrase, such as "give the key to bob".
+     */
+    private static final Requirement INDIRECT_EXISTS;
+
+    static {
+        Condition indirect = ConditionFactory.getIndirectObjectPhraseCondition(
+                ObjectPhraseType.EXISTS);
+        INDIRECT_EXISTS = new Requirement(indirect, new ArrayList<>(),
+                indirect);
+    }
+
+    private ActionTypeRegistry registry;
+
+    /**
+     * @param primaryVerb of the action type
+     * @param synonyms    of the primary verb
+     * @return the registered action type, which requires an indirect object
+     * phrase.
+     */
+    private ActionType register(String primaryVerb, String... synonyms) {
+        return registry.register(primaryVerb, Arrays.asList(synonyms),
+                INDIRECT_EXISTS, INDIRECT_EXISTS, INDIRECT_EXISTS);
+    }
+
+    /**
+     * @param input to parse
+     * @return the first action of the input.
+     */
+    private Action parse(Parser parser, String input) {
+        return parser.parse(input).getActions().get(0);
+    }
+
+    @Test
+    public void register_allVerbs() {
+        ActionType give = register("give", "hand", "offer");
+
+        assertEquals(3, registry.size());
+        assertSame(give, registry.get("give"));
+        assertSame(give, registry.get("hand"));
+        assertSame(give, registry.get("offer"));
+        assertNull(registry.get("take"));
+    }
+
+    @Test
+    public void get_ignoresCase() {
+        ActionType give = register("Give", "HAND");
+
+        assertSame(give, registry.get("give"));
+        assertSame(give, registry.get("GIVE"));
+        assertTrue(registry.contains("hand"));
+    }
+
+    @Test
+    public void get_turkishLocale_rootCaseFolding() {
+        Locale locale = Locale.getDefault();
+        try {
+            // Under Turkish rules "QUIT" lower cases to "quıt"
+            Locale.setDefault(new Locale("tr", "TR"));
+            ActionType quit = register("QUIT");
+
+            assertSame(quit, registry.get("quit"));
+            assertSame(quit, registry.get("QUIT"));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void register_duplicateVerb_noVerbsAdded() {
+        ActionType take = register("take", "get");
+
+        try {
+            register("grab", "snatch", "get");
+            fail("The duplicate verb should not be allowed");
+        } catch (IllegalArgumentException expected) {
+            // Nothing of the failed registration is left behind
+        }
+
+        assertEquals(2, registry.size());
+        assertFalse(registry.contains("grab"));
+        assertFalse(registry.contains("snatch"));
+        assertSame(take, registry.get("get"));
+    }
+
+    @Test
+    public void register_duplicateVerbIgnoringCase_noVerbsAdded() {
+        register("take");
+
+        try {
+            register("grab", "Take");
+            fail("The duplicate verb should not be allowed");
+        } catch (IllegalArgumentException expected) {
+            // Verbs are compared ignoring case
+        }
+
+        assertEquals(1, registry.size());
+        assertFalse(registry.contains("grab"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_sameVerbTwice_throws() {
+        register("take", "TAKE");
+    }
+
+    @Test
+    public void unregister_removesOnlyItsVerbs() {
+        ActionType take = register("take", "get");
+        ActionType give = register("give", "hand");
+
+        assertTrue(registry.unregister(take));
+
+        assertEquals(2, registry.size());
+        assertFalse(registry.contains("take"));
+        assertFalse(registry.contains("get"));
+        assertSame(give, registry.get("hand"));
+        // Its verbs can be used again
+        register("get");
+    }
+
+    @Test
+    public void unregister_notRegistered_false() {
+        ActionType take = register("take");
+        registry.unregister(take);
+
+        assertFalse(registry.unregister(take));
+        assertFalse(new ActionTypeRegistry().unregister(take));
+    }
+
+    @Test
+    public void clear_empty() {
+        register("take", "get");
+        registry.clear();
+
+        assertEquals(0, registry.size());
+        assertNull(registry.get("take"));
+    }
+
+    @Test
+    public void getActionTypes_snapshot() {
+        register("take");
+        assertEquals(1, registry.getActionTypes().size());
+
+        register("give");
+
+        assertEquals(2, registry.getActionTypes().size());
+    }
+
+    @Test
+    public void concurrentOverlappingRegistrations_allOrNothing()
+            throws InterruptedException {
+        // Each thread registers its own primary verb and a synonym that it
+        // shares with other threads, so only one thread per synonym can win.
+        int threadCount = 16;
+        int sharedCount = 4;
+        AtomicReferenceArray<ActionType> registered =
+                new AtomicReferenceArray<>(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    registered.set(index, register("verb" + index,
+                            "shared" + index % sharedCount));
+                } catch (IllegalArgumentException | InterruptedException e) {
+                    // Another thread registered the shared verb first
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int winners = 0;
+        for (int i = 0; i < threadCount; i++) {
+            ActionType actionType = registered.get(i);
+            if (actionType == null) {
+                assertFalse(registry.contains("verb" + i));
+            } else {
+                winners++;
+                assertSame(actionType, registry.get("verb" + i));
+                assertSame(actionType,
+                        registry.get("shared" + i % sharedCount));
+            }
+        }
+        assertEquals(sharedCount, winners);
+        assertEquals(sharedCount * 2, registry.size());
+    }
+
+    @Test
+    public void checkForValidity_requirementsOfVerb() {
+        register("give", "hand");
+        Parser parser = ParserFactory.getParser(registry);
+
+        assertEquals(Collections.emptyList(), registry.checkForValidity(
+                parse(parser, "hand the key to bob")));
+        assertEquals(3, registry.checkForValidity(parse(parser, "give"))
+                .size());
+    }
+
+    @Test
+    public void checkForValidity_unknownVerb_null() {
+        register("give");
+        Parser parser = ParserFactory.getParser(registry);
+
+        assertNull(registry.checkForValidity(parse(parser, "the key")));
+    }
+
+    @Test
+    public void getParser_recognizesVerbsOfRegistry() {
+        register("take", "grab");
+        ActionTypeRegistry other = new ActionTypeRegistry();
+        other.register("jump", Collections.emptyList(), INDIRECT_EXISTS,
+                INDIRECT_EXISTS, INDIRECT_EXISTS);
+
+        Parser parser = ParserFactory.getParser(registry);
+        Parser otherParser = ParserFactory.getParser(other);
+
+        assertEquals("grab", parse(parser, "grab key").getVerbPhrase()
+                .getVerb());
+        assertNull(parse(parser, "jump fence").getVerbPhrase().getVerb());
+        assertEquals("jump", parse(otherParser, "jump fence")
+                .getVerbPhrase().getVerb());
+        assertSame(parser, ParserFactory.getParser(registry));
+    }
+
+    @Test
+    public void getParser_laterRegistration_newParser() {
+        register("take");
+        Parser parser = ParserFactory.getParser(registry);
+        register("drop");
+
+        Parser newParser = ParserFactory.getParser(registry);
+
+        assertNotSame(parser, newParser);
+        assertNull(parse(parser, "drop key").getVerbPhrase().getVerb());
+        assertEquals("drop", parse(newParser, "drop key").getVerbPhrase()
+                .getVerb());
+    }
+
+    @Before
+    public void setUp() {
+        registry = new ActionTypeRegistry();
+    }
+}
@@ -0,0 +1,139 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.CachingParser;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.words.Command;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Evan Quan
+ */
+public class CachingParserTest {
+
+    private Parser parser;
+    private CachingParser cachingParser;
+
+    @Test
+    public void parse_equalsParser() {
+        for (String input : Arrays.asList("eat the cake",
+                "give the key to bob, then go west", "", "look")) {
+            assertEquals(parser.parse(input), cachingParser.parse(input));
+            assertEquals(parser.parse(input), cachingParser.parse(input));
+        }
+    }
+
+    @Test
+    public void sameInput_hit() {
+        cachingParser.parse("go north");
+        cachingParser.parse("go north");
+
+        assertEquals(1, cachingParser.getMisses());
+        assertEquals(1, cachingParser.getHits());
+    }
+
+    @Test
+    public void differentWhitespace_hit() {
+        cachingParser.parse("go north");
+        Command command = cachingParser.parse("  go\t north ");
+
+        assertEquals(1, cachingParser.getHits());
+        assertEquals("  go\t north ", command.getString());
+        assertEquals(parser.parse("go north").getActions(),
+                command.getActions());
+    }
+
+    @Test
+    public void differentCase_miss() {
+        cachingParser.parse("go north");
+        cachingParser.parse("Go North");
+
+        assertEquals(2, cachingParser.getMisses());
+    }
+
+    @Test
+    public void differentCase_ignoreCase_hit() {
+        cachingParser = new CachingParser(parser, 10, true);
+        cachingParser.parse("go north");
+        cachingParser.parse("Go North");
+
+        assertEquals(1, cachingParser.getHits());
+    }
+
+    @Test
+    public void full_leastRecentlyUsedEvicted() {
+        cachingParser = new CachingParser(parser, 1, false);
+        cachingParser.parse("look");
+        cachingParser.parse("go north");
+        cachingParser.parse("look");
+
+        assertEquals(3, cachingParser.getMisses());
+        assertEquals(2, cachingParser.getEvictions());
+        assertEquals(1, cachingParser.size());
+    }
+
+    @Test
+    public void cachedCommandModified_cacheUnchanged() {
+        Command command = cachingParser.parse("eat the cake");
+        command.getActions().clear();
+        try {
+            cachingParser.parse("eat the cake").getActions().get(0)
+                    .setPreposition("on");
+        } catch (UnsupportedOperationException expected) {
+            // Cached actions are immutable
+        }
+
+        assertEquals(parser.parse("eat the cake"),
+                cachingParser.parse("eat the cake"));
+    }
+
+    @Test
+    public void parse_cachedActionsImmutable() {
+        cachingParser.parse("eat the cake");
+
+        assertTrue(cachingParser.parse("eat the cake").getActions().get(0)
+                .isImmutable());
+        assertFalse(parser.parse("eat the cake").getActions().get(0)
+                .isImmutable());
+    }
+
+    @Test
+    public void parseAll_cached() {
+        cachingParser.parseAll(Arrays.asList("look", "look", "go north"));
+
+        assertEquals(1, cachingParser.getHits());
+        assertEquals(2, cachingParser.size());
+        assertNotEquals(0, cachingParser.getMisses());
+    }
+
+    @Test
+    public void clear_empty() {
+        cachingParser.parse("look");
+        cachingParser.clear();
+
+        assertEquals(0, cachingParser.size());
+        assertTrue(cachingParser.parse("look").hasActions());
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        actionTypes.put("look", "look");
+        ParserFactory.setActionTypes(actionTypes);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        cachingParser = new CachingParser(parser);
+    }
+}
@@ -0,0 +1,190 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.ActionType;
+import com.github.evanquan.parsely.parser.ActionTypeRegistry;
+import com.github.evanquan.parsely.parser.CommandLogReplayer;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.ReplaySummary;
+import com.github.evanquan.parsely.parser.Requirement;
+import com.github.evanquan.parsely.parser.condition.Condition;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory;
+import com.github.evanquan.parsely.words.Command;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Evan Quan
+ */
+public class CommandLogReplayerTest {
+
+    private static final List<String> LINES = Arrays.asList(
+            "eat the cake",
+            "",
+            "give the key to bob, then go west",
+            "jump over the fence",
+            "the red ball",
+            "eat pie, cake and bread");
+
+    private Parser parser;
+    private Path log;
+    private ForkJoinPool pool;
+
+    private void writeLog(String contents) throws IOException {
+        Files.write(log, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ReplaySummary replay(CommandLogReplayer replayer)
+            throws IOException {
+        return replayer.replay(log, StandardCharsets.UTF_8, pool);
+    }
+
+    private void assertCountsEqualParse(List<String> lines,
+                                        ReplaySummary summary) {
+        long actions = 0;
+        long[] commandsByActions = new long[4];
+        for (Command command : parser.parseAll(lines)) {
+            actions += command.getActions().size();
+            commandsByActions[command.getActions().size()]++;
+        }
+        assertEquals(lines.size(), summary.getCommands());
+        assertEquals(actions, summary.getActions());
+        for (int i = 0; i < commandsByActions.length; i++) {
+            assertEquals(commandsByActions[i],
+                    summary.getCommandsWithActions(i));
+        }
+    }
+
+    @Test
+    public void oneChunk_equalsParse() throws IOException {
+        writeLog(String.join("\n", LINES) + "\n");
+
+        assertCountsEqualParse(LINES,
+                replay(new CommandLogReplayer(parser)));
+    }
+
+    @Test
+    public void manyChunks_equalsParse() throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.addAll(LINES);
+        }
+        writeLog(String.join("\r\n", lines));
+
+        assertCountsEqualParse(lines, replay(new CommandLogReplayer(parser,
+                null, 16, 64)));
+    }
+
+    @Test
+    public void manyChunks_carriageReturns_equalsParse() throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.addAll(LINES);
+        }
+        writeLog(String.join("\r", lines));
+
+        assertCountsEqualParse(lines, replay(new CommandLogReplayer(parser,
+                null, 16, 64)));
+    }
+
+    @Test
+    public void registry_verbsRecognizedAndChecked() throws IOException {
+        writeLog("eat the cake\ngive the key to bob\ngo west\n");
+        Condition indirect = ConditionFactory.getIndirectObjectPhraseCondition(
+                ConditionFactory.ObjectPhraseType.EXISTS);
+        Requirement indirectExists = new Requirement(indirect,
+                new ArrayList<>(), indirect);
+        Condition met = action -> true;
+        Requirement always = new Requirement(met, new ArrayList<>(), met);
+        ActionTypeRegistry registry = new ActionTypeRegistry();
+        registry.register("give", Arrays.asList("hand"), always, always,
+                indirectExists);
+        registry.register("eat", new ArrayList<>(), always, always,
+                indirectExists);
+
+        ReplaySummary summary = replay(new CommandLogReplayer(registry));
+
+        assertEquals(3, summary.getActions());
+        // "go" is not in the registry, so is not recognized as a verb
+        assertEquals(1, summary.getActionsWithoutVerb());
+        assertEquals(1, summary.getInvalidActions());
+        assertEquals(1, summary.getFailedIndirectObjectRequirements());
+        assertEquals(0, summary.getFailedDirectObjectRequirements());
+    }
+
+    @Test
+    public void empty_noCommands() throws IOException {
+        writeLog("");
+
+        assertEquals(0, replay(new CommandLogReplayer(parser)).getCommands());
+    }
+
+    @Test
+    public void actionTypes_unknownVerbs() throws IOException {
+        writeLog(String.join("\n", LINES));
+        HashMap<String, ActionType> actionTypes = new HashMap<>();
+        actionTypes.put("eat", null);
+        actionTypes.put("give", null);
+
+        ReplaySummary summary = replay(new CommandLogReplayer(parser,
+                actionTypes));
+
+        assertEquals(1, summary.getUnknownVerbs().size());
+        assertEquals(Long.valueOf(1), summary.getUnknownVerbs().get("go"));
+        // "jump over the fence" and "the red ball"
+        assertEquals(2, summary.getActionsWithoutVerb());
+    }
+
+    @Test
+    public void lineLongerThanMax_throws() throws IOException {
+        writeLog("eat\n" + String.join(" ", LINES) + "\neat");
+
+        try {
+            replay(new CommandLogReplayer(parser, null, 4, 16));
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("longer than"));
+            return;
+        }
+        throw new AssertionError("Expected IOException");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void charsetWithWideLineBreaks_throws() throws IOException {
+        writeLog("eat");
+        new CommandLogReplayer(parser).replay(log, StandardCharsets.UTF_16,
+                pool);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        ParserFactory.setActionTypes(actionTypes);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        log = Files.createTempFile("commands", ".log");
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.delete(log);
+    }
+}
@@ -0,0 +1,263 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.CommandStream;
+import com.github.evanquan.parsely.parser.ParseListener;
+import com.github.evanquan.parsely.parser.ParsePhase;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TimedParser;
+import com.github.evanquan.parsely.words.Command;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Evan Quan
+ */
+public class CommandStreamTest {
+
+    private static final List<String> LINES = Arrays.asList(
+            "eat the cake",
+            "",
+            "give the key to bob, then go west",
+            "look");
+
+    private Parser parser;
+    private CommandStream stream;
+    private ArrayList<Command> actual;
+
+    @Test
+    public void reader_equalsParseAll() throws IOException {
+        long count = stream.parse(new StringReader(String.join("\n", LINES)),
+                actual::add);
+
+        assertEquals(4, count);
+        assertEquals(parser.parseAll(LINES), actual);
+    }
+
+    @Test
+    public void lineBreaks_sameAsBufferedReader() throws IOException {
+        stream.parse(new StringReader("eat\r\ngo\rlook\n\r\nrun\n"),
+                actual::add);
+
+        assertEquals(parser.parseAll(Arrays.asList("eat", "go", "look", "",
+                "run")), actual);
+    }
+
+    @Test
+    public void linesLongerThanBuffer_equalsParse() throws IOException {
+        StringBuilder line = new StringBuilder("eat");
+        for (int i = 0; i < 3000; i++) {
+            line.append(" cake");
+        }
+        stream.parse(new StringReader(line + "\n" + line), actual::add);
+
+        assertEquals(parser.parseAll(Arrays.asList(line.toString(),
+                line.toString())), actual);
+    }
+
+    @Test(expected = IOException.class)
+    public void lineLongerThanMax_throws() throws IOException {
+        new CommandStream(parser, 5).parse(new StringReader("eat\neat cake"),
+                actual::add);
+    }
+
+    @Test
+    public void inputStream_equalsParseAll() throws IOException {
+        byte[] bytes = String.join("\n", LINES)
+                .getBytes(StandardCharsets.UTF_8);
+        stream.parse(new ByteArrayInputStream(bytes), actual::add);
+
+        assertEquals(parser.parseAll(LINES), actual);
+    }
+
+    @Test
+    public void path_equalsParseAll() throws IOException {
+        Path path = Files.createTempFile("commands", ".log");
+        try {
+            Files.write(path, LINES, StandardCharsets.UTF_8);
+            stream.parse(path, actual::add);
+        } finally {
+            Files.delete(path);
+        }
+
+        assertEquals(parser.parseAll(LINES), actual);
+    }
+
+    @Test
+    public void publisher_onlyPublishesRequested() {
+        TestSubscriber subscriber = new TestSubscriber();
+        stream.publish(new StringReader(String.join("\n", LINES)))
+                .subscribe(subscriber);
+        assertTrue(actual.isEmpty());
+
+        subscriber.subscription.request(1);
+        assertEquals(1, actual.size());
+        subscriber.subscription.request(2);
+        assertEquals(3, actual.size());
+        assertFalse(subscriber.complete);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(parser.parseAll(LINES), actual);
+        assertTrue(subscriber.complete);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void publisher_cancel_stopsPublishing() {
+        TestSubscriber subscriber = new TestSubscriber();
+        stream.publish(new StringReader(String.join("\n", LINES)))
+                .subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertEquals(1, actual.size());
+        assertFalse(subscriber.complete);
+    }
+
+    @Test
+    public void publisher_nonPositiveRequest_error() {
+        TestSubscriber subscriber = new TestSubscriber();
+        stream.publish(new StringReader("eat")).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void publisher_lineLongerThanMax_error() {
+        TestSubscriber subscriber = new TestSubscriber();
+        new CommandStream(parser, 3).publish(new StringReader("eat\ncake"))
+                .subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        assertEquals(1, actual.size());
+        assertTrue(subscriber.error instanceof IOException);
+    }
+
+    @Test
+    public void publisher_parserThrows_errorAndClosed() {
+        // Parsing throws once the first line is parsed
+        Parser throwingParser = new TimedParser(parser, new ParseListener() {
+            @Override
+            public void phaseCompleted(ParsePhase phase, long nanos) {
+            }
+
+            @Override
+            public void parseCompleted(int tokenCount, int actionCount,
+                                       long nanos) {
+                throw new IllegalStateException("Parser failed");
+            }
+        });
+        ClosingReader reader = new ClosingReader(String.join("\n", LINES));
+        TestSubscriber subscriber = new TestSubscriber();
+        new CommandStream(throwingParser).publish(reader)
+                .subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+
+        assertTrue(actual.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertTrue(reader.closed);
+    }
+
+    @Test
+    public void publisher_subscriberThrows_laterRequestsReturn() {
+        ClosingReader reader = new ClosingReader(String.join("\n", LINES));
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(Command item) {
+                super.onNext(item);
+                throw new IllegalStateException("Subscriber failed");
+            }
+        };
+        stream.publish(reader).subscribe(subscriber);
+
+        try {
+            subscriber.subscription.request(1);
+            fail("The exception of the subscriber should be thrown");
+        } catch (IllegalStateException expected) {
+            // The subscriber broke the rules, so its exception is thrown
+        }
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertEquals(1, actual.size());
+        assertTrue(reader.closed);
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        actionTypes.put("look", "look");
+        actionTypes.put("run", "run");
+        ParserFactory.setActionTypes(actionTypes);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        stream = new CommandStream(parser);
+        actual = new ArrayList<>();
+    }
+
+    private static class ClosingReader extends StringReader {
+
+        private boolean closed;
+
+        ClosingReader(String s) {
+            super(s);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private class TestSubscriber implements Flow.Subscriber<Command> {
+
+        private Flow.Subscription subscription;
+        private boolean complete;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Command item) {
+            actual.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+    }
+}
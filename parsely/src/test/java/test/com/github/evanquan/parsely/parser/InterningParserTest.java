@@ -0,0 +1,80 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.InterningParser;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Evan Quan
+ */
+public class InterningParserTest {
+
+    private Parser parser;
+    private InterningParser interningParser;
+
+    @Test
+    public void parse_equalsParser() {
+        for (String input : Arrays.asList("eat the cake",
+                "give the key of the door to bob, then go west", "", "look")) {
+            assertEquals(parser.parse(input), interningParser.parse(input));
+        }
+    }
+
+    @Test
+    public void samePhrases_sameInstances() {
+        Action first = interningParser.parse("give the key to bob")
+                .getActions().get(0);
+        Action second = interningParser.parse("eat the key with bob")
+                .getActions().get(0);
+
+        assertSame(first.getDirectObjectPhrase(),
+                second.getDirectObjectPhrase());
+        assertSame(first.getIndirectObjectPhrase(),
+                second.getIndirectObjectPhrase());
+    }
+
+    @Test
+    public void sameOwners_sameInstances() {
+        ObjectPhrase key = interningParser.parse("get the key of the door")
+                .getActions().get(0).getDirectObjectPhrase();
+        ObjectPhrase lock = interningParser.parse("get the lock of the door")
+                .getActions().get(0).getDirectObjectPhrase();
+
+        assertSame(key.getOwner(), lock.getOwner());
+    }
+
+    @Test
+    public void sameVerbPhrases_sameInstances() {
+        Action first = interningParser.parse("quickly go north")
+                .getActions().get(0);
+        Action second = interningParser.parse("quickly go south")
+                .getActions().get(0);
+
+        assertSame(first.getVerbPhrase(), second.getVerbPhrase());
+        assertEquals(1, interningParser.getVerbPhraseCount());
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("get", "get");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        actionTypes.put("look", "look");
+        ParserFactory.setActionTypes(actionTypes);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        interningParser = new InterningParser(parser);
+    }
+}
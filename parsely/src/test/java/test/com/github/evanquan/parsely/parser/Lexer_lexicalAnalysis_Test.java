@@ -0,0 +1,93 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.Lexer;
+import com.github.evanquan.parsely.parser.LexerFactory;
+import com.github.evanquan.parsely.parser.LexerType;
+import com.github.evanquan.parsely.parser.Parser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that every {@link LexerType} splits input into the same tokens as
+ * {@link Parser#lexicalAnalysis(String)}.
+ *
+ * @author Evan Quan
+ */
+public class Lexer_lexicalAnalysis_Test {
+
+    private static void testLexicalAnalysis(String input, String[] expected) {
+        for (LexerType type : LexerType.values()) {
+            Lexer lexer = LexerFactory.getLexer(type);
+            assertEquals(type.toString(),
+                    new ArrayList<>(Arrays.asList(expected)),
+                    lexer.lexicalAnalysis(input));
+        }
+    }
+
+    private static void testSameAsScanner(String input) {
+        for (LexerType type : LexerType.values()) {
+            Lexer lexer = LexerFactory.getLexer(type);
+            assertEquals(type.toString(), Parser.lexicalAnalysis(input),
+                    lexer.lexicalAnalysis(input));
+        }
+    }
+
+    @Test
+    public void empty_empty() {
+        testLexicalAnalysis("", new String[]{});
+    }
+
+    @Test
+    public void whitespaceOnly_empty() {
+        testLexicalAnalysis(" \t\n ", new String[]{});
+    }
+
+    @Test
+    public void one_endComma_split() {
+        testLexicalAnalysis("a,", new String[]{"a", ","});
+    }
+
+    @Test
+    public void one_endPeriod_split() {
+        testLexicalAnalysis("a.", new String[]{"a", "."});
+    }
+
+    @Test
+    public void one_commaOnly_comma() {
+        testLexicalAnalysis(",", new String[]{","});
+    }
+
+    @Test
+    public void one_startComma_noSplit() {
+        testLexicalAnalysis(",a", new String[]{",a"});
+    }
+
+    @Test
+    public void one_startEndComma_split() {
+        testLexicalAnalysis(",a,", new String[]{",a", ","});
+    }
+
+    @Test
+    public void two_endComma_split() {
+        testLexicalAnalysis("a, b", new String[]{"a", ",", "b"});
+    }
+
+    @Test
+    public void two_startEndComma_split() {
+        testLexicalAnalysis(",a, ,b,", new String[]{",a", ",", ",b", ","});
+    }
+
+    @Test
+    public void mixedWhitespace_sameAsScanner() {
+        testSameAsScanner("  eat\tthe\u000Bcake,\r\nthen \f go  north.  ");
+    }
+
+    @Test
+    public void repeatedPunctuation_sameAsScanner() {
+        testSameAsScanner("a,, b.. ,. ., c.,");
+    }
+}
@@ -0,0 +1,179 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.Lexer;
+import com.github.evanquan.parsely.parser.LexerFactory;
+import com.github.evanquan.parsely.parser.LexerType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import com.github.evanquan.parsely.util.SymbolTable;
+import com.github.evanquan.parsely.words.WordClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Evan Quan
+ */
+public class Lexer_tokenize_Test {
+
+    private static TokenStream tokens;
+
+    private static void testTokenize(String input, String[] expected) {
+        for (LexerType type : LexerType.values()) {
+            tokens = LexerFactory.getLexer(type).tokenize(input);
+            assertEquals(type.toString(),
+                    new ArrayList<>(Arrays.asList(expected)), tokens.toList());
+        }
+    }
+
+    @Test
+    public void empty_empty() {
+        testTokenize("", new String[]{});
+        assertTrue(tokens.isEmpty());
+    }
+
+    @Test
+    public void two_endComma_split() {
+        testTokenize("a, b", new String[]{"a", ",", "b"});
+    }
+
+    @Test
+    public void character_offsetsIntoInput() {
+        String input = " eat  cake, then";
+        tokens = LexerFactory.getLexer(LexerType.CHARACTER).tokenize(input);
+
+        assertSame(input, tokens.getInput());
+        assertEquals(4, tokens.size());
+        assertEquals(1, tokens.getStart(0));
+        assertEquals(4, tokens.getEnd(0));
+        assertEquals(6, tokens.getStart(1));
+        assertEquals(4, tokens.getLength(1));
+        assertEquals(10, tokens.getStart(2));
+        assertEquals(1, tokens.getLength(2));
+    }
+
+    @Test
+    public void character_viewsMatchStrings() {
+        tokens = LexerFactory.getLexer(LexerType.CHARACTER)
+                .tokenize(new StringBuilder("take the gold."));
+
+        for (int i = 0; i < tokens.size(); i++) {
+            assertEquals(tokens.getString(i), tokens.get(i).toString());
+            assertEquals(tokens.getLength(i), tokens.get(i).length());
+        }
+        assertEquals('o', tokens.get(2).charAt(1));
+        assertEquals("ol", tokens.get(2).subSequence(1, 3).toString());
+    }
+
+    @Test
+    public void of_sameTokens() {
+        tokens = TokenStream.of(Arrays.asList("a", ",", "bc"));
+
+        assertEquals(Arrays.asList("a", ",", "bc"), tokens.toList());
+        assertEquals(2, tokens.getLength(2));
+    }
+
+    @Test
+    public void verbs_classifiedAsVerb() {
+        CaseInsensitiveTable verbs = new CaseInsensitiveTable();
+        verbs.add("eat", WordClass.VERB);
+        for (LexerType type : LexerType.values()) {
+            tokens = LexerFactory.getLexer(type).tokenize("EAT the eat, then",
+                    verbs);
+
+            assertTrue(tokens.is(0, WordClass.VERB));
+            assertTrue(tokens.is(1, WordClass.ARTICLE));
+            assertFalse(tokens.is(1, WordClass.VERB));
+            assertTrue(tokens.is(2, WordClass.VERB));
+            assertTrue(tokens.is(3, WordClass.ACTION_SEPARATOR));
+            assertTrue(tokens.is(4, WordClass.ACTION_SEPARATOR));
+        }
+    }
+
+    @Test
+    public void noVerbs_noneClassifiedAsVerb() {
+        tokens = LexerFactory.getLexer(LexerType.CHARACTER).tokenize("eat");
+
+        assertFalse(tokens.is(0, WordClass.VERB));
+    }
+
+    @Test
+    public void actionSeparators_segments() {
+        for (LexerType type : LexerType.values()) {
+            tokens = LexerFactory.getLexer(type).tokenize("eat cake, then go");
+
+            assertEquals(3, tokens.getSegmentCount());
+            assertEquals(0, tokens.getSegmentStart(0));
+            assertEquals(2, tokens.getSegmentEnd(0));
+            assertEquals(3, tokens.getSegmentStart(1));
+            assertEquals(3, tokens.getSegmentEnd(1));
+            assertEquals(4, tokens.getSegmentStart(2));
+            assertEquals(5, tokens.getSegmentEnd(2));
+        }
+    }
+
+    @Test
+    public void noActionSeparators_oneSegment() {
+        tokens = LexerFactory.getLexer(LexerType.CHARACTER).tokenize("");
+
+        assertEquals(1, tokens.getSegmentCount());
+        assertEquals(0, tokens.getSegmentStart(0));
+        assertEquals(0, tokens.getSegmentEnd(0));
+    }
+
+    @Test
+    public void reusedStream_onlyNewTokens() {
+        for (LexerType type : LexerType.values()) {
+            Lexer lexer = LexerFactory.getLexer(type);
+            TokenStream reused = new TokenStream();
+            lexer.tokenize("eat the cake, then go west and look", null, reused);
+            tokens = lexer.tokenize("drop it", null, reused);
+
+            assertSame(reused, tokens);
+            assertEquals(Arrays.asList("drop", "it"), tokens.toList());
+            assertEquals(1, tokens.getSegmentCount());
+        }
+    }
+
+    @Test
+    public void symbols_canonicalStrings() {
+        String door = new String("door");
+        SymbolTable symbols = new SymbolTable(8);
+        symbols.add(door);
+        for (LexerType type : LexerType.values()) {
+            Lexer lexer = LexerFactory.getLexer(type, symbols);
+            tokens = lexer.tokenize("open the door.");
+
+            assertEquals(Arrays.asList("open", "the", "door", "."),
+                    tokens.toList());
+            assertSame(door, tokens.getString(2));
+            assertEquals(0, tokens.getSymbolId(2));
+            assertEquals(SymbolTable.NO_ID, tokens.getSymbolId(0));
+            assertSame(door, lexer.lexicalAnalysis("open the door").get(2));
+        }
+    }
+
+    @Test
+    public void reusedStream_noSymbols() {
+        SymbolTable symbols = new SymbolTable(8);
+        symbols.add("door");
+        TokenStream reused = new TokenStream();
+        LexerFactory.getLexer(LexerType.CHARACTER, symbols)
+                .tokenize("door", null, reused);
+        tokens = LexerFactory.getLexer(LexerType.CHARACTER)
+                .tokenize("door", null, reused);
+
+        assertEquals(SymbolTable.NO_ID, tokens.getSymbolId(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_outOfBounds_throws() {
+        TokenStream.of(Arrays.asList("a")).get(1);
+    }
+}
@@ -0,0 +1,121 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.CachingParser;
+import com.github.evanquan.parsely.parser.ParseEvent;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * JUnit 4 tests for {@link ParseEvent}
+ *
+ * @author Evan Quan
+ */
+public class ParseEventTest {
+
+    /**
+     * @param parser to parse inputs with while recording
+     * @param inputs to parse
+     * @return the parse events recorded, in order.
+     */
+    private static List<RecordedEvent> record(Parser parser,
+                                              String... inputs)
+            throws IOException {
+        Path file = Files.createTempFile("parse", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseEvent.NAME).withoutThreshold();
+            recording.start();
+            for (String input : inputs) {
+                parser.parse(input);
+            }
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals(ParseEvent.NAME)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void parse_fields() throws IOException {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+
+        List<RecordedEvent> events = record(parser,
+                "eat the cake, then go north", "");
+
+        assertEquals(2, events.size());
+        RecordedEvent parsed = events.get(0);
+        assertEquals(27, parsed.getInt("inputLength"));
+        assertEquals(7, parsed.getInt("tokenCount"));
+        assertEquals(2, parsed.getInt("actionCount"));
+        assertEquals(ParseEvent.PARSED, parsed.getString("outcome"));
+        assertEquals("VerbGnosticParser", parsed.getString("parser"));
+        assertTrue(parsed.getDuration().toNanos() >= 0);
+        RecordedEvent empty = events.get(1);
+        assertEquals(0, empty.getInt("actionCount"));
+        assertEquals(ParseEvent.EMPTY, empty.getString("outcome"));
+    }
+
+    @Test
+    public void cached_notTokenized() throws IOException {
+        Parser parser = new CachingParser(
+                ParserFactory.getParser(ParserType.VERB_GNOSTIC));
+
+        List<RecordedEvent> events = record(parser,
+                "eat the cake", new String("eat the cake"));
+
+        assertEquals(2, events.size());
+        assertEquals(3, events.get(0).getInt("tokenCount"));
+        assertEquals(-1, events.get(1).getInt("tokenCount"));
+        assertEquals(1, events.get(1).getInt("actionCount"));
+        assertEquals("CachingParser", events.get(1).getString("parser"));
+    }
+
+    @Test
+    public void notEnabled_notRecorded() throws IOException {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        Path file = Files.createTempFile("parse", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            parser.parse("eat the cake");
+            recording.stop();
+            recording.dump(file);
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                assertNotEquals(ParseEvent.NAME,
+                        event.getEventType().getName());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("go", "go");
+        ParserFactory.setActionTypes(actionTypes);
+    }
+}
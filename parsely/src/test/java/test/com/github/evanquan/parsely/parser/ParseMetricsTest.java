@@ -0,0 +1,135 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.CachingParser;
+import com.github.evanquan.parsely.parser.ParseMetrics;
+import com.github.evanquan.parsely.parser.ParsePhase;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TimedParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * JUnit 4 tests for {@link ParseMetrics} and {@link TimedParser}
+ *
+ * @author Evan Quan
+ */
+public class ParseMetricsTest {
+
+    private static ParseMetrics metrics;
+
+    @Test
+    public void verbGnostic_allPhases() {
+        Parser parser = new TimedParser(
+                ParserFactory.getParser(ParserType.VERB_GNOSTIC), metrics);
+
+        parser.parse("eat the cake, then go north");
+
+        assertEquals(1, metrics.getParseCount());
+        // eat the cake , then go north
+        assertEquals(7, metrics.getTokenCount());
+        assertEquals(2, metrics.getActionCount());
+        for (ParsePhase phase : ParsePhase.values()) {
+            assertEquals(1, metrics.getLatencies(phase).getCount());
+        }
+    }
+
+    @Test
+    public void verbAgnostic_noCleanup() {
+        Parser parser = new TimedParser(
+                ParserFactory.getParser(ParserType.VERB_AGNOSTIC), metrics);
+
+        parser.parseAll(Arrays.asList("eat the cake", "look"));
+
+        assertEquals(2, metrics.getParseCount());
+        assertEquals(4, metrics.getTokenCount());
+        assertEquals(2, metrics.getActionCount());
+        assertEquals(2, metrics.getLatencies(ParsePhase.LEXICAL_ANALYSIS)
+                .getCount());
+        assertEquals(0, metrics.getLatencies(ParsePhase.SYNTACTICAL_CLEANUP)
+                .getCount());
+    }
+
+    @Test
+    public void sharedParser_notTimed() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        Parser timedParser = new TimedParser(parser, metrics);
+
+        parser.parse("eat the cake");
+        timedParser.parse("eat the cake");
+
+        assertEquals(1, metrics.getParseCount());
+    }
+
+    @Test
+    public void separateListeners_separateMetrics() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        ParseMetrics otherMetrics = new ParseMetrics();
+        Parser timedParser = new TimedParser(parser, metrics);
+        Parser otherTimedParser = new TimedParser(parser, otherMetrics);
+
+        timedParser.parse("eat the cake");
+        otherTimedParser.parse("eat the cake");
+        otherTimedParser.parse("look");
+
+        assertEquals(1, metrics.getParseCount());
+        assertEquals(2, otherMetrics.getParseCount());
+    }
+
+    @Test
+    public void cachingParser_timesOnlyMisses() {
+        Parser parser = new TimedParser(new CachingParser(
+                ParserFactory.getParser(ParserType.VERB_GNOSTIC)), metrics);
+
+        parser.parse("eat the cake");
+        parser.parse("eat the cake");
+
+        assertEquals(1, metrics.getParseCount());
+    }
+
+    @Test
+    public void getListener_listener() {
+        TimedParser parser = new TimedParser(
+                ParserFactory.getParser(ParserType.VERB_GNOSTIC), metrics);
+
+        assertSame(metrics, parser.getListener());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullListener_throws() {
+        new TimedParser(ParserFactory.getParser(ParserType.VERB_GNOSTIC),
+                null);
+    }
+
+    @Test
+    public void reset_empty() {
+        Parser parser = new TimedParser(
+                ParserFactory.getParser(ParserType.VERB_GNOSTIC), metrics);
+        parser.parse("eat the cake");
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getParseCount());
+        assertEquals(0, metrics.getTokenCount());
+        assertEquals(0, metrics.getActionCount());
+        assertEquals(0, metrics.getLatencies(ParsePhase.SYNTACTICAL_ANALYSIS)
+                .getCount());
+    }
+
+    @Before
+    public void setUp() {
+        metrics = new ParseMetrics();
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("go", "go");
+        actionTypes.put("look", "look");
+        ParserFactory.setActionTypes(actionTypes);
+    }
+}
@@ -0,0 +1,135 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.LexerType;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.util.SymbolTable;
+import com.github.evanquan.parsely.words.Command;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Evan Quan
+ */
+public class ParserFactoryTest {
+
+    private HashMap<String, String> actionTypes;
+
+    @Test
+    public void sameConfiguration_sameParser() {
+        assertSame(ParserFactory.getParser(ParserType.VERB_GNOSTIC),
+                ParserFactory.getParser(ParserType.VERB_GNOSTIC));
+        assertSame(ParserFactory.getParser(ParserType.VERB_AGNOSTIC),
+                ParserFactory.getParser(ParserType.VERB_AGNOSTIC));
+    }
+
+    @Test
+    public void equalActionTypes_sameParser() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        ParserFactory.setActionTypes(new HashMap<>(actionTypes));
+
+        assertSame(parser, ParserFactory.getParser(ParserType.VERB_GNOSTIC));
+    }
+
+    @Test
+    public void differentConfiguration_differentParser() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+
+        assertNotSame(parser, ParserFactory.getParser(ParserType.VERB_GNOSTIC,
+                LexerType.SCANNER));
+        ParserFactory.setMaxOwnerDepth(1);
+        assertNotSame(parser, ParserFactory.getParser(ParserType.VERB_GNOSTIC));
+    }
+
+    @Test
+    public void actionTypesChangedAfterSet_parserUnchanged() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        actionTypes.remove("eat");
+
+        assertSame(parser, ParserFactory.getParser(ParserType.VERB_GNOSTIC));
+        assertEquals("eat", parser.parse("eat cake").getActions().get(0)
+                .getVerbPhrase().getVerb());
+    }
+
+    @Test
+    public void nullActionType_verbRecognized() {
+        actionTypes.put("look", null);
+        actionTypes.put(null, "look");
+        ParserFactory.setActionTypes(actionTypes);
+
+        assertEquals("look", ParserFactory.getParser(ParserType.VERB_GNOSTIC)
+                .parse("look at the door").getActions().get(0)
+                .getVerbPhrase().getVerb());
+    }
+
+    @Test
+    public void parseFromManyThreads_sameCommands() throws Exception {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        String input = "eat the cake, then go west and give bob the key of "
+                + "the door";
+        Command expected = parser.parse(input);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Command>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(executor.submit(() -> ParserFactory
+                        .getParser(ParserType.VERB_GNOSTIC).parse(input)));
+            }
+            for (Future<Command> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void symbolTable_canonicalWords() {
+        String cake = new String("cake");
+        SymbolTable symbols = new SymbolTable(8);
+        symbols.add(cake);
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        ParserFactory.setSymbolTable(symbols);
+
+        for (ParserType type : ParserType.values()) {
+            Parser symbolParser = ParserFactory.getParser(type);
+            assertSame(symbolParser, ParserFactory.getParser(type));
+            Command command = symbolParser.parse("eat the cake");
+            assertSame(cake, command.getActions().get(0)
+                    .getDirectObjectPhrase().getNoun());
+        }
+        assertNotSame(parser, ParserFactory.getParser(ParserType.VERB_GNOSTIC));
+        ParserFactory.setSymbolTable(null);
+        assertNotSame(cake, ParserFactory.getParser(ParserType.VERB_GNOSTIC)
+                .parse("eat the cake").getActions().get(0)
+                .getDirectObjectPhrase().getNoun());
+    }
+
+    @After
+    public void tearDown() {
+        ParserFactory.setMaxOwnerDepth(ParserFactory.DEFAULT_MAX_OWNER_DEPTH);
+        ParserFactory.setSymbolTable(null);
+    }
+
+    @Before
+    public void setUp() {
+        actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("go", "go");
+        actionTypes.put("give", "give");
+        ParserFactory.setActionTypes(actionTypes);
+    }
+}
@@ -0,0 +1,81 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.parser.TokenStream;
+import com.github.evanquan.parsely.words.Action;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Evan Quan
+ */
+public class Parser_getAction_Test {
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "eat the cake",
+            "EAT the cake",
+            "give the red key of the door to bob",
+            "quickly run",
+            "look");
+
+    private static void testGetActionEqualsParse(ParserType parserType) {
+        Parser parser = ParserFactory.getParser(parserType);
+        TokenStream tokens = new TokenStream();
+        for (String input : INPUTS) {
+            Action expected = parser.parse(input, tokens).getActions().get(0);
+            assertEquals(input, expected,
+                    parser.getAction(tokens, 0, tokens.size()));
+        }
+    }
+
+    @Test
+    public void verbGnostic_equalsParse() {
+        testGetActionEqualsParse(ParserType.VERB_GNOSTIC);
+    }
+
+    @Test
+    public void verbAgnostic_equalsParse() {
+        testGetActionEqualsParse(ParserType.VERB_AGNOSTIC);
+    }
+
+    @Test
+    public void segment_actionOfSegment() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        TokenStream tokens = new TokenStream();
+        parser.parse("eat the cake, then go west", tokens);
+        int last = tokens.getSegmentCount() - 1;
+
+        assertEquals(parser.parse("go west").getActions().get(0),
+                parser.getAction(tokens, tokens.getSegmentStart(last),
+                        tokens.getSegmentEnd(last)));
+    }
+
+    @Test
+    public void emptyRange_empty() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        TokenStream tokens = new TokenStream();
+        parser.parse("eat the cake", tokens);
+
+        assertTrue(parser.getAction(tokens, 1, 1).isEmpty());
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        actionTypes.put("run", "run");
+        actionTypes.put("look", "look");
+        ParserFactory.setActionTypes(actionTypes);
+    }
+}
@@ -0,0 +1,89 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Evan Quan
+ */
+public class Parser_parseAllParallel_Test {
+
+    private static final String[] COMMANDS = {
+            "eat the cake",
+            "give the red key of the door to bob, then go west",
+            "quickly run",
+            "drop 3 coins and the sword of the king",
+            "look",
+            "",
+    };
+
+    private static List<String> inputs;
+
+    private static void testParseAllParallelEqualsParseAll(
+            ParserType parserType) {
+        Parser parser = ParserFactory.getParser(parserType);
+        assertEquals(parser.parseAll(inputs), parser.parseAllParallel(inputs));
+    }
+
+    @Test
+    public void verbGnostic_equalsParseAll() {
+        testParseAllParallelEqualsParseAll(ParserType.VERB_GNOSTIC);
+    }
+
+    @Test
+    public void verbAgnostic_equalsParseAll() {
+        testParseAllParallelEqualsParseAll(ParserType.VERB_AGNOSTIC);
+    }
+
+    @Test
+    public void pool_equalsParseAll() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertEquals(parser.parseAll(inputs),
+                    parser.parseAllParallel(inputs, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void array_equalsParseAll() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        assertEquals(parser.parseAll(inputs),
+                parser.parseAllParallel(inputs.toArray(new String[0])));
+    }
+
+    @Test
+    public void empty_empty() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        assertTrue(parser.parseAllParallel(new ArrayList<>()).isEmpty());
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        actionTypes.put("run", "run");
+        actionTypes.put("drop", "drop");
+        actionTypes.put("look", "look");
+        ParserFactory.setActionTypes(actionTypes);
+        inputs = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            inputs.add(COMMANDS[i % COMMANDS.length] + " " + i);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.words.Command;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Evan Quan
+ */
+public class Parser_parseAll_Test {
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "eat the cake",
+            "",
+            "give the red key of the door to bob, then go west",
+            "quickly run",
+            "drop 3 coins and the sword of the king",
+            ", . then",
+            "look");
+
+    private static void testParseAllEqualsParse(ParserType parserType) {
+        Parser parser = ParserFactory.getParser(parserType);
+        ArrayList<Command> expected = new ArrayList<>();
+        for (String input : INPUTS) {
+            expected.add(parser.parse(input));
+        }
+        assertEquals(expected, parser.parseAll(INPUTS));
+    }
+
+    @Test
+    public void verbGnostic_equalsParse() {
+        testParseAllEqualsParse(ParserType.VERB_GNOSTIC);
+    }
+
+    @Test
+    public void verbAgnostic_equalsParse() {
+        testParseAllEqualsParse(ParserType.VERB_AGNOSTIC);
+    }
+
+    @Test
+    public void empty_empty() {
+        Parser parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        assertTrue(parser.parseAll(new ArrayList<>()).isEmpty());
+    }
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("eat", "eat");
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        actionTypes.put("run", "run");
+        actionTypes.put("drop", "drop");
+        actionTypes.put("look", "look");
+        ParserFactory.setActionTypes(actionTypes);
+    }
+}
@@ -0,0 +1,117 @@
+package test.com.github.evanquan.parsely.parser;
+
+import com.github.evanquan.parsely.parser.ActionTypeRegistry;
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.Requirement;
+import com.github.evanquan.parsely.parser.ValidationEvent;
+import com.github.evanquan.parsely.parser.condition.Condition;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory;
+import com.github.evanquan.parsely.parser.condition.ConditionFactory.ObjectPhraseType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * JUnit 4 tests for {@link ValidationEvent}
+ *
+ * @author Evan Quan
+ */
+public class ValidationEventTest {
+
+    private ActionTypeRegistry registry;
+    private Parser parser;
+
+    /**
+     * @param inputs to parse and check the first action of while recording
+     * @return the validation events recorded, in order.
+     */
+    private List<RecordedEvent> record(String... inputs) throws IOException {
+        Path file = Files.createTempFile("validation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ValidationEvent.NAME).withoutThreshold();
+            recording.start();
+            check(inputs);
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName()
+                        .equals(ValidationEvent.NAME)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * @param inputs to parse and check the first action of
+     */
+    private void check(String... inputs) {
+        for (String input : inputs) {
+            registry.checkForValidity(parser.parse(input).getActions().get(0));
+        }
+    }
+
+    @Test
+    public void checkForValidity_validAndInvalid() throws IOException {
+        List<RecordedEvent> events = record("hand the key to bob", "give");
+
+        assertEquals(2, events.size());
+        RecordedEvent valid = events.get(0);
+        assertEquals("give", valid.getString("actionType"));
+        assertEquals("hand", valid.getString("verb"));
+        assertEquals(0, valid.getInt("failedRequirementCount"));
+        assertEquals(ValidationEvent.VALID, valid.getString("outcome"));
+        RecordedEvent invalid = events.get(1);
+        assertEquals("give", invalid.getString("actionType"));
+        assertEquals("give", invalid.getString("verb"));
+        assertEquals(3, invalid.getInt("failedRequirementCount"));
+        assertEquals(ValidationEvent.INVALID, invalid.getString("outcome"));
+    }
+
+    @Test
+    public void notEnabled_notRecorded() throws IOException {
+        Path file = Files.createTempFile("validation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            check("hand the key to bob");
+            recording.stop();
+            recording.dump(file);
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                assertNotEquals(ValidationEvent.NAME,
+                        event.getEventType().getName());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        // Requires an indirect object phrase, such as "give the key to bob"
+        Condition indirect = ConditionFactory.getIndirectObjectPhraseCondition(
+                ObjectPhraseType.EXISTS);
+        Requirement indirectExists = new Requirement(indirect,
+                new ArrayList<>(), indirect);
+        registry = new ActionTypeRegistry();
+        registry.register("give", Arrays.asList("hand"), indirectExists,
+                indirectExists, indirectExists);
+        parser = ParserFactory.getParser(registry);
+    }
+}
@@ -5,13 +5,16 @@ import com.github.evanquan.parsely.parser.ParserFactory;
 import com.github.evanquan.parsely.parser.ParserType;
 import com.github.evanquan.parsely.util.CollectionUtils;
 import com.github.evanquan.parsely.words.ObjectPhrase;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Evan Quan
@@ -144,6 +147,68 @@ public class VerbGnosticParser_getObjectPhrase_Test {
         testGetObjectPhraseEquals(new String[]{"b", "of"});
     }
 
+    @Test
+    public void ownersDeeperThanMax_truncated() {
+        ParserFactory.setMaxOwnerDepth(1);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        expected.setNoun("b");
+        expected.setPreposition("of");
+        expected.setTruncated(true);
+        ObjectPhrase owner = new ObjectPhrase();
+        owner.setNoun("c");
+        owner.setPreposition("of");
+        expected.setOwner(owner);
+        testGetObjectPhraseEquals(new String[]{"b", "of", "c", "of", "d"});
+    }
+
+    @Test
+    public void ownersAtMax_notTruncated() {
+        ParserFactory.setMaxOwnerDepth(1);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        testGetObjectPhrase(new String[]{"b", "of", "c"});
+        assertFalse(actual.isTruncated());
+        assertEquals("c", actual.getOwner().getNoun());
+    }
+
+    @Test
+    public void maxOwnerDepth0_noOwner() {
+        ParserFactory.setMaxOwnerDepth(0);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        testGetObjectPhrase(new String[]{"b", "of", "c"});
+        assertTrue(actual.isTruncated());
+        assertFalse(actual.hasOwner());
+    }
+
+    @Test
+    public void veryDeepOwners_noStackOverflow() {
+        ParserFactory.setMaxOwnerDepth(Integer.MAX_VALUE);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        ArrayList<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            tokens.add("key");
+            tokens.add("of");
+        }
+        tokens.add("house");
+        actual = parser.getObjectPhrase(tokens);
+        int depth = 0;
+        while (actual.hasOwner()) {
+            actual = actual.getOwner();
+            depth++;
+        }
+        assertEquals(100000, depth);
+        assertEquals("house", actual.getNoun());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxOwnerDepth_throws() {
+        ParserFactory.setMaxOwnerDepth(-1);
+    }
+
+    @After
+    public void tearDown() {
+        ParserFactory.setMaxOwnerDepth(ParserFactory.DEFAULT_MAX_OWNER_DEPTH);
+    }
+
     @Before
     public void setUp() {
         expected = new ObjectPhrase();
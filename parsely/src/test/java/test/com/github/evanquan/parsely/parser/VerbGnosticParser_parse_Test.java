@@ -1049,4 +1049,34 @@ public class VerbGnosticParser_parse_Test {
     public void pickup_1() {
         testParse("pick up the cheese", true);
     }
+
+    /**
+     * Test that a number determiner is also parsed as the quantity of the
+     * object phrase.
+     */
+    @Test
+    public void word3_numberDeterminer_quantity() {
+        testParse("eat 3 cakes");
+
+        assertEquals("3", action.getDirectObjectPhrase().getDeterminer());
+        assertTrue(action.getDirectObjectPhrase().hasQuantity());
+        assertEquals(3, action.getDirectObjectPhrase().getQuantity());
+    }
+
+    /**
+     * Test that parsed commands can be modified, as they were before results
+     * could be made immutable.
+     */
+    @Test
+    public void word3_modified_changed() {
+        testParse("eat the cake");
+        action.setPreposition("with");
+        action.getDirectObjectPhrase().setNoun("pie");
+        action.getVerbPhrase().getAdverbs().add("quickly");
+
+        assertFalse(command.isImmutable());
+        assertEquals("with", actions.get(0).getPreposition());
+        assertEquals("pie", actions.get(0).getDirectObjectPhrase().getNoun());
+        assertTrue(actions.get(0).getVerbPhrase().hasAdverbs());
+    }
 }
@@ -0,0 +1,98 @@
+package test.com.github.evanquan.parsely.util;
+
+import com.github.evanquan.parsely.util.CaseInsensitiveTable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * JUnit 4 tests for {@link CaseInsensitiveTable}
+ *
+ * @author Evan Quan
+ */
+public class CaseInsensitiveTableTest {
+
+    private static CaseInsensitiveTable table;
+
+    @Before
+    public void setUp() {
+        table = new CaseInsensitiveTable();
+    }
+
+    @Test
+    public void get_missing_0() {
+        table.add("the", 1);
+        assertEquals(0, table.get("then"));
+        assertEquals(0, table.get(""));
+    }
+
+    @Test
+    public void get_differentCase_flags() {
+        table.add("the", 1);
+        assertEquals(1, table.get("THE"));
+        assertEquals(1, table.get("tHe"));
+        assertEquals(1, table.get(new StringBuilder("The")));
+    }
+
+    @Test
+    public void add_upperCase_storedLowerCase() {
+        table.add("Door", 4);
+        assertEquals(4, table.get("door"));
+    }
+
+    @Test
+    public void add_turkishLocale_rootLowerCase() {
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            table.add("QUIT", 1);
+            table.add("ÉTAIN", 2);
+            assertEquals(1, table.get("quit"));
+            assertEquals(1, table.get("QUIT"));
+            assertEquals(2, table.get("étain"));
+            assertEquals(2, table.get("ÉTAIN"));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void add_twice_flagsMerged() {
+        table.add("to", 1);
+        table.add("TO", 2);
+        assertEquals(3, table.get("to"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void add_noFlags_contains() {
+        table.add("a", 0);
+        assertTrue(table.contains("A"));
+        assertFalse(table.contains("b"));
+    }
+
+    @Test
+    public void addAll_manyWords_allFound() {
+        for (int i = 0; i < 1000; i++) {
+            table.add("word" + i, i + 1);
+        }
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 1, table.get("WORD" + i));
+        }
+    }
+
+    @Test
+    public void get_nonAscii_sameAsToLowerCase() {
+        table.addAll(Set.of("stra\u00DFe", "ok", "i"), 1);
+        assertEquals(1, table.get("STRA\u00DFE"));
+        // The Kelvin sign lower cases to k
+        assertEquals(1, table.get("O\u212A"));
+        // The dotted capital I lower cases to 2 characters
+        assertEquals(0, table.get("\u0130"));
+    }
+}
@@ -0,0 +1,93 @@
+package test.com.github.evanquan.parsely.util;
+
+import com.github.evanquan.parsely.util.LatencyHistogram;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * JUnit 4 tests for {@link LatencyHistogram}
+ *
+ * @author Evan Quan
+ */
+public class LatencyHistogramTest {
+
+    private static LatencyHistogram histogram;
+
+    @Before
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void empty_zero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void record_countTotalMax() {
+        histogram.record(10);
+        histogram.record(30);
+        histogram.record(20);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(60, histogram.getTotal());
+        assertEquals(30, histogram.getMax());
+        assertEquals(20, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void record_negative_zero() {
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_upperBoundOfBucket() {
+        // 5 to 7 are in the same bucket, 100 is in another
+        for (int i = 0; i < 99; i++) {
+            histogram.record(5);
+        }
+        histogram.record(100);
+
+        assertEquals(7, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(99));
+        assertEquals(100, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void getPercentile_atMostMax() {
+        histogram.record(1000);
+
+        assertEquals(1000, histogram.getPercentile(50));
+    }
+
+    @Test
+    public void record_longMax_lastBucket() {
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(50));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPercentile_outOfRange_throws() {
+        histogram.getPercentile(101);
+    }
+
+    @Test
+    public void reset_empty() {
+        histogram.record(10);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0, histogram.getMax());
+    }
+}
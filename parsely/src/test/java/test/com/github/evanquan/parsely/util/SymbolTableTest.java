@@ -0,0 +1,159 @@
+package test.com.github.evanquan.parsely.util;
+
+import com.github.evanquan.parsely.util.SymbolTable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * JUnit 4 tests for {@link SymbolTable}
+ *
+ * @author Evan Quan
+ */
+public class SymbolTableTest {
+
+    private static SymbolTable table;
+
+    @Before
+    public void setUp() {
+        table = new SymbolTable(4);
+    }
+
+    @Test
+    public void add_idsInOrder() {
+        assertEquals(0, table.add("door"));
+        assertEquals(1, table.add("key"));
+        assertEquals(0, table.add("door"));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void add_full_noId() {
+        table.addAll(Arrays.asList("a", "b", "c", "d"));
+
+        assertEquals(SymbolTable.NO_ID, table.add("e"));
+        assertEquals(3, table.add("d"));
+        assertEquals(4, table.size());
+    }
+
+    @Test
+    public void getId_range() {
+        table.add("door");
+
+        assertEquals(0, table.getId("open the door", 9, 13));
+        assertEquals(0, table.getId(new StringBuilder("door")));
+        assertEquals(SymbolTable.NO_ID, table.getId("open the door", 9, 12));
+    }
+
+    @Test
+    public void getId_differentCase_noId() {
+        table.add("door");
+
+        assertEquals(SymbolTable.NO_ID, table.getId("Door"));
+    }
+
+    @Test
+    public void getLowerCaseId_anyCase_id() {
+        table.add("key");
+        int door = table.add("door");
+
+        assertEquals(door, table.getLowerCaseId("Door"));
+        assertEquals(door, table.getLowerCaseId("DOOR"));
+        assertEquals(door, table.getLowerCaseId("door"));
+        assertEquals(SymbolTable.NO_ID, table.getLowerCaseId("Doors"));
+    }
+
+    @Test
+    public void getLowerCaseId_upperCaseSymbol_noId() {
+        table.add("Door");
+
+        assertEquals(SymbolTable.NO_ID, table.getLowerCaseId("Door"));
+    }
+
+    @Test
+    public void intern_symbol_canonical() {
+        String door = new String("door");
+        table.add(door);
+
+        assertSame(door, table.intern("the door", 4, 8));
+        assertEquals("the", table.intern("the door", 0, 3));
+    }
+
+    @Test
+    public void getSymbol_id() {
+        table.add("door");
+
+        assertEquals("door", table.getSymbol(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getSymbol_missing_throws() {
+        table.add("door");
+        table.getSymbol(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_zeroCapacity_throws() {
+        new SymbolTable(0);
+    }
+
+    @Test
+    public void manySymbols_allFound() {
+        table = new SymbolTable(1000);
+        for (int i = 0; i < 1000; i++) {
+            table.add("word" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, table.getId("word" + i));
+        }
+        assertEquals(SymbolTable.NO_ID, table.getId("word1000"));
+    }
+
+    @Test
+    public void concurrentAddAndLookup_symbolOfFoundId() throws Exception {
+        int count = 500_000;
+        table = new SymbolTable(count);
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = "word" + i;
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                try {
+                    while (adding.get()) {
+                        // Look up the word being added, as it is the one
+                        // whose slot and size may be out of step
+                        int next = Math.min(table.size(), count - 1);
+                        int id = table.getId(words[next]);
+                        if (id != SymbolTable.NO_ID) {
+                            assertEquals(words[next], table.getSymbol(id));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            readers[r].start();
+        }
+        for (String word : words) {
+            table.add(word);
+        }
+        adding.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(count, table.size());
+    }
+}
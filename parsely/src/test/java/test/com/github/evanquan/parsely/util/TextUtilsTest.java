@@ -43,6 +43,69 @@ public class TextUtilsTest {
         assertFalse(TextUtils.isInteger(""));
     }
 
+    @Test
+    public void isInteger_anySeparator_true() {
+        assertTrue(TextUtils.isInteger("1,00"));
+    }
+
+    @Test
+    public void isInteger_separatorWithoutZeros_false() {
+        assertFalse(TextUtils.isInteger("1."));
+    }
+
+    @Test
+    public void isInteger_lineTerminatorSeparator_false() {
+        assertFalse(TextUtils.isInteger("1\n0"));
+    }
+
+    @Test
+    public void isInteger_twoSeparators_false() {
+        assertFalse(TextUtils.isInteger("1.0.0"));
+    }
+
+    @Test
+    public void isInteger_nonAsciiDigit_false() {
+        assertFalse(TextUtils.isInteger("\u0663"));
+    }
+
+    @Test
+    public void isInteger_sameAsRegex() {
+        String[] strings = {"", "0", "00", "1a", "a1", "1a0", "10a0", "1.01",
+                "1.10", "-1", "+1", "1 0", "1\r0", "1\u20280", "12.000",
+                "3\uD83D\uDE000", "3\uD83D\uDE00", "3\uD83D0", "3\uDE000"};
+        for (String string : strings) {
+            assertEquals(string, string.matches("\\d+((.)?0+)?"),
+                    TextUtils.isInteger(string));
+        }
+    }
+
+    @Test
+    public void isInteger_supplementarySeparator_true() {
+        assertTrue(TextUtils.isInteger("3\uD83D\uDE000"));
+    }
+
+    @Test
+    public void isInteger_range_checksRangeOnly() {
+        assertTrue(TextUtils.isInteger("take 3 coins", 5, 6));
+        assertFalse(TextUtils.isInteger("take 3 coins", 4, 6));
+    }
+
+    @Test
+    public void getIntegerValue_integer_value() {
+        assertEquals(30, TextUtils.getIntegerValue("30"));
+    }
+
+    @Test
+    public void getIntegerValue_zeroFraction_integerPart() {
+        assertEquals(4, TextUtils.getIntegerValue("4.00"));
+    }
+
+    @Test
+    public void getIntegerValue_tooLarge_maxValue() {
+        assertEquals(Long.MAX_VALUE,
+                TextUtils.getIntegerValue("99999999999999999999"));
+    }
+
     @Test
     public void testSplitCamelCase() {
         String input = "thisIsTheInputString";
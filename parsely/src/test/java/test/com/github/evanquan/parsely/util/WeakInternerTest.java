@@ -0,0 +1,55 @@
+package test.com.github.evanquan.parsely.util;
+
+import com.github.evanquan.parsely.util.WeakInterner;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * JUnit 4 tests for {@link WeakInterner}
+ *
+ * @author Evan Quan
+ */
+public class WeakInternerTest {
+
+    private static WeakInterner<String> interner;
+
+    @Before
+    public void setUp() {
+        interner = new WeakInterner<>();
+    }
+
+    @Test
+    public void intern_equal_first() {
+        String first = new String("door");
+        String second = new String("door");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_different_different() {
+        assertSame("door", interner.intern("door"));
+        assertSame("key", interner.intern("key"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_null_null() {
+        assertNull(interner.intern(null));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void clear_empty() {
+        interner.intern("door");
+        interner.clear();
+        String door = new String("door");
+
+        assertEquals(0, interner.size());
+        assertSame(door, interner.intern(door));
+    }
+}
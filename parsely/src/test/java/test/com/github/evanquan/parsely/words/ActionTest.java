@@ -0,0 +1,234 @@
+package test.com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.words.Action;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import com.github.evanquan.parsely.words.VerbPhrase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link Action}
+ *
+ * @author Evan Quan
+ */
+public class ActionTest {
+
+    public static Action one;
+    public static Action two;
+    public static ObjectPhrase onedo;
+    public static ObjectPhrase oneio;
+    public static ObjectPhrase twodo;
+    public static ObjectPhrase twoio;
+
+    @Test
+    public void Action() {
+        assertNotEquals(one, "");
+    }
+
+    @Test
+    public void equals_directObjectPhrase_true() {
+        onedo.setNoun("a");
+        twodo.setNoun("a");
+        one.setDirectObjectPhrase(onedo);
+        two.setDirectObjectPhrase(twodo);
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_empty_true() {
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_indirectObjectPhrase_true() {
+        oneio.setNoun("a");
+        twoio.setNoun("a");
+        one.setIndirectObjectPhrase(oneio);
+        two.setIndirectObjectPhrase(twoio);
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_verb_false() {
+        one.setVerbPhrase("a");
+        two.setVerbPhrase("b");
+        assertNotEquals(one, two);
+    }
+
+    @Test
+    public void equals_verb_true() {
+        one.setVerbPhrase("a");
+        two.setVerbPhrase("a");
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void hasDirectObjectPhrase_empty_false() {
+        one.setDirectObjectPhrase(onedo);
+        assertFalse(one.hasDirectObjectPhrase());
+    }
+
+    @Test
+    public void hasDirectObjectPhrase_nonempty_true() {
+        onedo.setNoun("");
+        one.setDirectObjectPhrase(onedo);
+        assertTrue(one.hasDirectObjectPhrase());
+    }
+
+    @Test
+    public void hasDirectObjectPhrase_null_false() {
+        assertFalse(one.hasDirectObjectPhrase());
+    }
+
+    @Test
+    public void hasDirectObjectPhrase_null_fase() {
+        assertFalse(one.hasDirectObjectPhrase());
+    }
+
+    @Test
+    public void hasIndirectObjectPhrase_empty_false() {
+        one.setIndirectObjectPhrase(oneio);
+        assertFalse(one.hasIndirectObjectPhrase());
+    }
+
+    @Test
+    public void hasIndirectObjectPhrase_nonempty_true() {
+        oneio.setNoun("");
+        one.setIndirectObjectPhrase(oneio);
+        assertTrue(one.hasIndirectObjectPhrase());
+    }
+
+    @Test
+    public void hasIndirectObjectPhrase_null_false() {
+        assertFalse(one.hasIndirectObjectPhrase());
+    }
+
+    @Test
+    public void hasPreposition_false() {
+        assertFalse(one.hasPreposition());
+    }
+
+    @Test
+    public void hasPreposition_true() {
+        one.setPreposition("");
+        assertTrue(one.hasPreposition());
+    }
+
+    @Before
+    public void setUp() {
+        one = new Action();
+        two = new Action();
+        onedo = new ObjectPhrase();
+        oneio = new ObjectPhrase();
+        twodo = new ObjectPhrase();
+        twoio = new ObjectPhrase();
+    }
+
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void toImmutable_setPreposition_throws() {
+        one.toImmutable().setPreposition("on");
+    }
+
+    @Test
+    public void toImmutable_phrasesImmutable() {
+        one.setVerbPhrase("eat");
+        one.setDirectObjectPhrase(onedo);
+        Action immutable = one.toImmutable();
+
+        assertTrue(immutable.isImmutable());
+        assertTrue(immutable.getVerbPhrase().isImmutable());
+        assertTrue(immutable.getDirectObjectPhrase().isImmutable());
+        assertFalse(one.isImmutable());
+        assertFalse(onedo.isImmutable());
+        assertEquals(one, immutable);
+    }
+
+    @Test
+    public void toImmutable_modified_unchanged() {
+        one.setVerbPhrase("eat");
+        one.setDirectObjectPhrase(onedo);
+        Action immutable = one.toImmutable();
+        one.getVerbPhrase().setVerb("drink");
+        onedo.setNoun("soup");
+        one.setPreposition("with");
+
+        assertEquals("eat", immutable.getVerbPhrase().getVerb());
+        assertFalse(immutable.hasDirectObjectPhrase());
+        assertFalse(immutable.hasPreposition());
+    }
+
+    @Test
+    public void toImmutable_immutable_same() {
+        Action immutable = one.toImmutable();
+
+        assertSame(immutable, immutable.toImmutable());
+    }
+
+    @Test
+    public void toImmutable_getAdverbsModified_unchanged() {
+        one.setVerbPhrase(new VerbPhrase.Builder().addAdverb("quickly")
+                .setVerb("eat").build());
+        Action immutable = one.toImmutable();
+        immutable.getVerbPhrase().getAdverbs().add("slowly");
+
+        assertEquals(1, immutable.getVerbPhrase().getAdverbs().size());
+    }
+
+    @Test
+    public void toImmutable_getAdverbs_copy() {
+        VerbPhrase verbPhrase = new VerbPhrase("eat");
+        verbPhrase.getAdverbs().add("quickly");
+        verbPhrase = verbPhrase.toImmutable();
+
+        assertNotSame(verbPhrase.getAdverbs(), verbPhrase.getAdverbs());
+        assertEquals("quickly", verbPhrase.getAdverbs().get(0));
+    }
+
+    @Test
+    public void hashCode_equal_equal() {
+        one.setVerbPhrase("eat");
+        one.setDirectObjectPhrase(onedo);
+        two.setVerbPhrase("eat");
+        two.setDirectObjectPhrase(twodo);
+
+        assertEquals(one.hashCode(), two.toImmutable().hashCode());
+    }
+
+    @Test
+    public void hashCode_hashSet_deduplicated() {
+        HashSet<Action> actions = new HashSet<>();
+        actions.add(new Action.Builder().setPreposition("on").build());
+        actions.add(new Action.Builder().setPreposition("on").build());
+        actions.add(new Action.Builder().setPreposition("in").build());
+
+        assertEquals(2, actions.size());
+    }
+
+    @Test
+    public void build_equalToSet() {
+        one.setVerbPhrase("eat");
+        one.setDirectObjectPhrase(onedo);
+        one.setPreposition("with");
+        one.setIndirectObjectPhrase(oneio);
+        onedo.setNoun("soup");
+        oneio.setNoun("spoon");
+
+        Action built = new Action.Builder()
+                .setVerbPhrase(new VerbPhrase.Builder().setVerb("eat").build())
+                .setDirectObjectPhrase(
+                        new ObjectPhrase.Builder().setNoun("soup").build())
+                .setPreposition("with")
+                .setIndirectObjectPhrase(
+                        new ObjectPhrase.Builder().setNoun("spoon").build())
+                .build();
+
+        assertEquals(one, built);
+        assertTrue(built.isImmutable());
+    }
+}
@@ -0,0 +1,134 @@
+package test.com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.parser.Parser;
+import com.github.evanquan.parsely.parser.ParserFactory;
+import com.github.evanquan.parsely.parser.ParserType;
+import com.github.evanquan.parsely.util.SymbolTable;
+import com.github.evanquan.parsely.words.CodedAction;
+import com.github.evanquan.parsely.words.CodedObjectPhrase;
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * JUnit 4 tests for {@link CodedAction}
+ *
+ * @author Evan Quan
+ */
+public class CodedActionTest {
+
+    private static Parser parser;
+    private static SymbolTable lexicon;
+
+    @Before
+    public void setUp() {
+        HashMap<String, String> actionTypes = new HashMap<>();
+        actionTypes.put("give", "give");
+        actionTypes.put("go", "go");
+        ParserFactory.setActionTypes(actionTypes);
+        parser = ParserFactory.getParser(ParserType.VERB_GNOSTIC);
+        lexicon = new SymbolTable(16);
+        lexicon.addAll(Arrays.asList("give", "go", "the", "red", "key", "to",
+                "bob", "north", "of", "door", "quickly"));
+    }
+
+    @Test
+    public void parseCoded_ids() {
+        ArrayList<CodedAction> actions =
+                parser.parseCoded("give the red key to bob", lexicon);
+
+        assertEquals(1, actions.size());
+        CodedAction action = actions.get(0);
+        assertEquals(lexicon.getId("give"), action.getVerb());
+        assertEquals(lexicon.getId("to"), action.getPreposition());
+        CodedObjectPhrase direct = action.getDirectObjectPhrase();
+        assertEquals(lexicon.getId("the"), direct.getDeterminer());
+        assertEquals(1, direct.getAdjectiveCount());
+        assertEquals(lexicon.getId("red"), direct.getAdjective(0));
+        assertEquals(lexicon.getId("key"), direct.getNoun());
+        assertEquals(lexicon.getId("bob"),
+                action.getIndirectObjectPhrase().getNoun());
+        assertEquals("key", direct.getNounSymbol());
+        assertEquals("red", direct.getAdjectiveSymbol(0));
+        assertEquals("give", action.getVerbSymbol());
+        assertEquals("to", action.getPrepositionSymbol());
+    }
+
+    @Test
+    public void parseCoded_unknownWords_noId() {
+        CodedAction action = parser.parseCoded("go west", lexicon).get(0);
+
+        assertEquals(lexicon.getId("go"), action.getVerb());
+        assertEquals(SymbolTable.NO_ID,
+                action.getDirectObjectPhrase().getNoun());
+        assertEquals(SymbolTable.NO_ID, action.getPreposition());
+        assertNull(action.getIndirectObjectPhrase());
+        assertNull(action.getDirectObjectPhrase().getNounSymbol());
+        assertNull(action.getPrepositionSymbol());
+    }
+
+    @Test
+    public void parseCoded_upperCase_lowerCaseId() {
+        CodedAction action = parser.parseCoded("go North", lexicon).get(0);
+
+        assertEquals(lexicon.getId("north"),
+                action.getDirectObjectPhrase().getNoun());
+        assertEquals("north",
+                action.getDirectObjectPhrase().getNounSymbol());
+    }
+
+    @Test
+    public void parseCoded_owner() {
+        CodedObjectPhrase direct = parser.parseCoded(
+                "give the key of the door to bob", lexicon).get(0)
+                .getDirectObjectPhrase();
+
+        assertEquals(lexicon.getId("of"), direct.getPreposition());
+        assertEquals(lexicon.getId("door"), direct.getOwner().getNoun());
+        assertNull(direct.getOwner().getOwner());
+    }
+
+    @Test
+    public void of_modified_unchanged() {
+        ObjectPhrase phrase = new ObjectPhrase();
+        phrase.setNoun("key");
+        CodedObjectPhrase coded = CodedObjectPhrase.of(phrase, lexicon);
+        phrase.setNoun("door");
+        phrase.setTruncated(true);
+
+        assertEquals("key", coded.getNounSymbol());
+        assertFalse(coded.isTruncated());
+    }
+
+    @Test
+    public void equals_sameIds_equal() {
+        CodedAction first = parser.parseCoded("give the key to bob", lexicon)
+                .get(0);
+        CodedAction second = parser.parseCoded("GIVE the key to Bob", lexicon)
+                .get(0);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first,
+                parser.parseCoded("give the red key to bob", lexicon).get(0));
+    }
+
+    @Test
+    public void of_manyOwners_coded() {
+        ObjectPhrase.Builder builder = new ObjectPhrase.Builder();
+        ObjectPhrase phrase = null;
+        for (int i = 0; i < 100_000; i++) {
+            phrase = builder.setNoun("door").setOwner(phrase).build();
+        }
+        CodedObjectPhrase coded = CodedObjectPhrase.of(phrase, lexicon);
+
+        assertEquals(coded, CodedObjectPhrase.of(phrase, lexicon));
+        assertEquals(lexicon.getId("door"), coded.getOwner().getNoun());
+    }
+}
@@ -0,0 +1,348 @@
+package test.com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.words.ObjectPhrase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * JUnit 4 tests for {@link ObjectPhrase}
+ *
+ * @author Evan Quan
+ */
+public class ObjectPhraseTest {
+
+    public static ObjectPhrase one;
+    public static ObjectPhrase two;
+
+    @Test
+    public void equals_adjectives_adjectives_true() {
+        one.setAdjectives(new ArrayList<>());
+        two.setAdjectives(new ArrayList<>());
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_adjectivesEmpty_adjectivesNull_true() {
+        one.setAdjectives(new ArrayList<>());
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_all_all_true() {
+        one.setDeterminer("");
+        two.setDeterminer("");
+        one.setAdjectives(new ArrayList<>());
+        two.setAdjectives(new ArrayList<>());
+        one.setNoun("");
+        two.setNoun("");
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_allNull_allNull_true() {
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_determiner_determiner_true() {
+        one.setDeterminer("");
+        two.setDeterminer("");
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void equals_differentAdjectives_false() {
+        one.setDeterminer("");
+        two.setDeterminer("");
+        one.setAdjectives(new ArrayList<>(Arrays.asList("")));
+        two.setAdjectives(new ArrayList<>());
+        one.setNoun("");
+        two.setNoun("");
+        assertNotEquals(one, two);
+    }
+
+    @Test
+    public void equals_differentDeterminer_false() {
+        one.setDeterminer(" ");
+        two.setDeterminer("");
+        one.setAdjectives(new ArrayList<>());
+        two.setAdjectives(new ArrayList<>());
+        one.setNoun("");
+        two.setNoun("");
+        assertNotEquals(one, two);
+    }
+
+    @Test
+    public void equals_differentNoun_false() {
+        one.setDeterminer("");
+        two.setDeterminer("");
+        one.setAdjectives(new ArrayList<>());
+        two.setAdjectives(new ArrayList<>());
+        one.setNoun(" ");
+        two.setNoun("");
+        assertNotEquals(one, two);
+    }
+
+    @Test
+    public void equals_noun_noun_true() {
+        one.setNoun("");
+        two.setNoun("");
+        assertEquals(one, two);
+    }
+
+    @Test
+    public void hasSameArticle_allNull_allNull_true() {
+        assertTrue(one.hasSameDeterminer(two));
+    }
+
+    @Test
+    public void hasSamePreposition_allNull_allNull_true() {
+        assertTrue(one.hasSamePreposition(two));
+    }
+
+    @Test
+    public void hasSameOwner_allNull_allNull_true() {
+        assertTrue(one.hasSameOwner(two));
+    }
+
+    @Test
+    public void hasSameOwner_empty_empty_true() {
+        ObjectPhrase three = new ObjectPhrase();
+        one.setOwner(three);
+        two.setOwner(three);
+        assertTrue(one.hasSameOwner(two));
+    }
+
+    @Test
+    public void hasSameOwner_noun_noun_true() {
+        ObjectPhrase three = new ObjectPhrase();
+        three.setNoun("a");
+        three.setPreposition("of");
+        one.setOwner(three);
+        two.setOwner(three);
+        assertTrue(one.hasSameOwner(two));
+    }
+
+    @Test
+    public void hasSameOwner_differentNoun_false() {
+        ObjectPhrase three = new ObjectPhrase();
+        ObjectPhrase four = new ObjectPhrase();
+        three.setNoun("a");
+        one.setOwner(three);
+        two.setOwner(four);
+        assertFalse(one.hasSameOwner(two));
+    }
+
+    @Test
+    public void hasSameOwner_differentPreposition_false() {
+        ObjectPhrase three = new ObjectPhrase();
+        ObjectPhrase four = new ObjectPhrase();
+        three.setNoun("a");
+        four.setNoun("a");
+        three.setPreposition("of");
+        one.setOwner(three);
+        two.setOwner(four);
+        assertFalse(one.hasSameOwner(two));
+    }
+
+    @Before
+    public void setUp() {
+        one = new ObjectPhrase();
+        two = new ObjectPhrase();
+    }
+
+    @Test
+    public void getQuantity_number_value() {
+        one.setDeterminer("3");
+        assertTrue(one.hasQuantity());
+        assertEquals(3, one.getQuantity());
+    }
+
+    @Test
+    public void getQuantity_article_none() {
+        one.setDeterminer("the");
+        assertFalse(one.hasQuantity());
+    }
+
+    @Test
+    public void getQuantity_determinerRemoved_none() {
+        one.setDeterminer("3");
+        one.setDeterminer(null);
+        assertFalse(one.hasQuantity());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void toImmutable_setNoun_throws() {
+        one.toImmutable().setNoun("a");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void toImmutable_ownerSetNoun_throws() {
+        one.setOwner(two);
+        one.toImmutable().getOwner().setNoun("a");
+    }
+
+    @Test
+    public void toImmutable_modified_unchanged() {
+        one.setNoun("key");
+        one.setOwner(two);
+        ObjectPhrase immutable = one.toImmutable();
+        one.setNoun("door");
+        two.setNoun("house");
+
+        assertEquals("key", immutable.getNoun());
+        assertFalse(immutable.getOwner().hasNoun());
+        assertTrue(immutable.isImmutable());
+        assertFalse(one.isImmutable());
+    }
+
+    @Test
+    public void toImmutable_getAdjectivesModified_unchanged() {
+        ArrayList<String> adjectives = new ArrayList<>();
+        adjectives.add("red");
+        one.setAdjectives(adjectives);
+        ObjectPhrase immutable = one.toImmutable();
+        adjectives.add("big");
+        immutable.getAdjectives().add("small");
+
+        assertEquals(1, immutable.getAdjectives().size());
+    }
+
+    @Test
+    public void toImmutable_getAdjectives_copy() {
+        one.setAdjectives(new String[]{"red", "big"});
+        ObjectPhrase immutable = one.toImmutable();
+
+        assertNotSame(immutable.getAdjectives(), immutable.getAdjectives());
+        assertEquals(Arrays.asList("red", "big"), immutable.getAdjectives());
+    }
+
+    @Test
+    public void toImmutable_manyOwners_equal() {
+        ObjectPhrase phrase = one;
+        for (int i = 0; i < 100_000; i++) {
+            ObjectPhrase owner = new ObjectPhrase();
+            owner.setNoun("box");
+            phrase.setOwner(owner);
+            phrase = owner;
+        }
+        ObjectPhrase immutable = one.toImmutable();
+
+        assertEquals(one.hashCode(), immutable.hashCode());
+        assertEquals(one, immutable);
+        assertSame(immutable, immutable.toImmutable());
+    }
+
+    @Test
+    public void hashCode_equal_equal() {
+        one.setNoun("door");
+        one.setOwner(new ObjectPhrase());
+        two.setNoun("door");
+        two.setOwner(new ObjectPhrase());
+
+        assertEquals(one.hashCode(), two.toImmutable().hashCode());
+    }
+
+    @Test
+    public void hashCode_manyOwners_equal() {
+        ObjectPhrase.Builder builder = new ObjectPhrase.Builder();
+        ObjectPhrase phrase = null;
+        for (int i = 0; i < 100_000; i++) {
+            phrase = builder.setNoun("box").setOwner(phrase).build();
+        }
+        ObjectPhrase other = null;
+        for (int i = 0; i < 100_000; i++) {
+            other = builder.setNoun("box").setOwner(other).build();
+        }
+
+        assertEquals(phrase.hashCode(), other.hashCode());
+        assertEquals(phrase, other);
+    }
+
+    @Test
+    public void hashCode_hashSet_deduplicated() {
+        HashSet<ObjectPhrase> phrases = new HashSet<>();
+        phrases.add(new ObjectPhrase.Builder().setNoun("key").build());
+        phrases.add(new ObjectPhrase.Builder().setNoun("key").build());
+        phrases.add(new ObjectPhrase.Builder().setNoun("key")
+                .setTruncated(true).build());
+
+        assertEquals(2, phrases.size());
+    }
+
+    @Test
+    public void build_equalToSet() {
+        one.setDeterminer("the");
+        one.setAdjectives(new String[]{"big", "red"});
+        one.setNoun("key");
+        one.setPreposition("of");
+        one.setOwner(two);
+        two.setNoun("door");
+
+        ObjectPhrase built = new ObjectPhrase.Builder()
+                .setDeterminer("the")
+                .addAdjective("big")
+                .addAdjective("red")
+                .setNoun("key")
+                .setPreposition("of")
+                .setOwner(new ObjectPhrase.Builder().setNoun("door").build())
+                .build();
+
+        assertEquals(one, built);
+        assertTrue(built.isImmutable());
+        assertTrue(built.getOwner().isImmutable());
+    }
+
+    @Test
+    public void build_builderReused_unchanged() {
+        ObjectPhrase.Builder builder = new ObjectPhrase.Builder();
+        ObjectPhrase built = builder.addAdjective("red").build();
+        builder.addAdjective("big");
+
+        assertEquals(1, built.getAdjectives().size());
+    }
+
+    @Test
+    public void getAdjective_index() {
+        one.setAdjectives(new String[]{"big", "red"});
+
+        assertEquals(2, one.getAdjectiveCount());
+        assertEquals("big", one.getAdjective(0));
+        assertEquals("red", one.getAdjective(1));
+        assertEquals(0, two.getAdjectiveCount());
+    }
+
+    @Test
+    public void getAdjectivesModified_changed() {
+        one.getAdjectives().add("red");
+        one.getAdjectives().add("big");
+
+        assertEquals(2, one.getAdjectiveCount());
+        assertEquals("big", one.getAdjective(1));
+        assertEquals(Arrays.asList("red", "big"), one.getAdjectives());
+    }
+
+    @Test
+    public void setAdjectivesArray_modified_unchanged() {
+        String[] adjectives = {"red"};
+        one.setAdjectives(adjectives);
+        adjectives[0] = "big";
+
+        assertEquals(Arrays.asList("red"), one.getAdjectives());
+    }
+
+    @Test
+    public void setAdjectives_null_empty() {
+        one.setAdjectives((ArrayList<String>) null);
+
+        assertFalse(one.hasAdjectives());
+        assertEquals(one, two);
+        assertEquals(one.hashCode(), two.hashCode());
+    }
+}
@@ -0,0 +1,213 @@
+package test.com.github.evanquan.parsely.words;
+
+import com.github.evanquan.parsely.words.Word;
+import com.github.evanquan.parsely.words.WordClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WordTest {
+
+    @Test
+    public void isArticle_empty_false() {
+        assertFalse(Word.isArticle(""));
+    }
+
+    @Test
+    public void isArticle_the_true() {
+        assertTrue(Word.isArticle("the"));
+    }
+
+    @Test
+    public void isDeterminer_0_true() {
+        assertTrue(Word.isDeterminer("0"));
+    }
+
+    @Test
+    public void isDeterminer_empty_false() {
+        assertFalse(Word.isDeterminer(""));
+    }
+
+    @Test
+    public void isDeterminer_this_true() {
+        assertTrue(Word.isDeterminer("this"));
+    }
+
+    @Test
+    public void isQuantifier_0_0_true() {
+        assertTrue(Word.isQuantifier("0.0"));
+    }
+
+    @Test
+    public void isQuantifier_0_00_true() {
+        assertTrue(Word.isQuantifier("0.00"));
+    }
+
+    @Test
+    public void isQuantifier_0_01_true() {
+        assertFalse(Word.isQuantifier("0.01"));
+    }
+
+    @Test
+    public void isQuantifier_0_true() {
+        assertTrue(Word.isQuantifier("0"));
+    }
+
+    @Test
+    public void isQuantifier_all_true() {
+        assertTrue(Word.isQuantifier("all"));
+    }
+
+    @Test
+    public void isQuantifier_empty_false() {
+        assertFalse(Word.isQuantifier(""));
+    }
+
+    @Test
+    public void isObjectPhraseSeparatingPreposition_joining_true() {
+        assertTrue(Word.isObjectPhraseSeparatingPreposition("with"));
+    }
+
+    @Test
+    public void isObjectPhraseSeparatingPreposition_excluding_true() {
+        assertTrue(Word.isObjectPhraseSeparatingPreposition("but"));
+    }
+
+    @Test
+    public void isObjectPhraseSeparatingPreposition_directional_true() {
+        assertTrue(Word.isObjectPhraseSeparatingPreposition("over"));
+    }
+
+    @Test
+    public void isObjectPhraseSeparatingPreposition_movement_true() {
+        assertTrue(Word.isObjectPhraseSeparatingPreposition("to"));
+    }
+
+    @Test
+    public void isObjectPhraseSeparatingPreposition_belonging_false() {
+        assertFalse(Word.isObjectPhraseSeparatingPreposition("of"));
+    }
+
+    @Test
+    public void isBelongingPreposition_of_true() {
+        assertTrue(Word.isBelongingPreposition("of"));
+    }
+
+    @Test
+    public void isMovementPreposition_to_true() {
+        assertTrue(Word.isMovementPreposition("to"));
+    }
+
+    @Test
+    public void isDirectionalPreposition_across_true() {
+        assertTrue(Word.isDirectionalPreposition("across"));
+    }
+
+    @Test
+    public void isJoiningPreposition_across_true() {
+        assertTrue(Word.isJoiningPreposition("with"));
+    }
+
+    @Test
+    public void isArticle_upperCase_true() {
+        assertTrue(Word.isArticle("THE"));
+    }
+
+    @Test
+    public void isDeterminer_mixedCase_true() {
+        assertTrue(Word.isDeterminer("All"));
+    }
+
+    @Test
+    public void isAdverb_upperCaseSuffix_true() {
+        assertTrue(Word.isAdverb("QUICKLY"));
+    }
+
+    @Test
+    public void isAdverb_l_false() {
+        assertFalse(Word.isAdverb("l"));
+    }
+
+    @Test
+    public void isActionSeparator_upperCase_true() {
+        assertTrue(Word.isActionSeparator("THEN"));
+    }
+
+    @Test
+    public void isActionSeparator_comma_true() {
+        assertTrue(Word.isActionSeparator(","));
+    }
+
+    @Test
+    public void isBelongingPreposition_of_charSequence_true() {
+        assertTrue(Word.isBelongingPreposition(new StringBuilder("Of")));
+    }
+
+    @Test
+    public void isVerb_belongsToSeveralSets_true() {
+        assertTrue(Word.isIntransitiveVerb("look"));
+        assertTrue(Word.isOptionallyTerminatingIntransitiveVerb("LOOK"));
+        assertFalse(Word.isTerminatingIntransitiveVerb("look"));
+    }
+
+    @Test
+    public void getWordClass_unknown_0() {
+        assertEquals(0, Word.getWordClass("door"));
+    }
+
+    @Test
+    public void getWordClass_the_generalArticle() {
+        assertEquals(WordClass.GENERAL_ARTICLE, Word.getWordClass("The"));
+    }
+
+    @Test
+    public void getWordClass_quickly_adverbAndKnownAdverb() {
+        assertEquals(WordClass.ADVERB | WordClass.KNOWN_ADVERB,
+                Word.getWordClass("quickly"));
+    }
+
+    @Test
+    public void getWordClass_number_number() {
+        assertEquals(WordClass.NUMBER, Word.getWordClass("30"));
+    }
+
+    @Test
+    public void getWordClass_range_classifiesRangeOnly() {
+        assertEquals(WordClass.MOVEMENT_PREPOSITION,
+                Word.getWordClass("go to it", 3, 5));
+    }
+
+    @Test
+    public void getArticles_allArticles() {
+        for (String article : Word.getArticles()) {
+            assertTrue(article, Word.isArticle(article));
+        }
+        assertTrue(Word.getArticles().contains("the"));
+        assertTrue(Word.getArticles().contains("my"));
+    }
+
+    @Test
+    public void getObjectPhraseSeparatingPrepositions_allPrepositions() {
+        for (String preposition
+                : Word.getObjectPhraseSeparatingPrepositions()) {
+            assertTrue(preposition,
+                    Word.isObjectPhraseSeparatingPreposition(preposition));
+        }
+        assertFalse(Word.getObjectPhraseSeparatingPrepositions()
+                .contains("of"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getActionSeparators_add_throws() {
+        Word.getActionSeparators().add("or");
+    }
+
+    @Test
+    public void getArticles_sameSet() {
+        assertSame(Word.getArticles(), Word.getArticles());
+        assertSame(Word.getKnownVerbs(), Word.getKnownVerbs());
+    }
+}